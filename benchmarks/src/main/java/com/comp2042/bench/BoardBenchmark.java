@@ -0,0 +1,133 @@
+package com.comp2042.bench;
+
+import com.comp2042.BitBoard;
+import com.comp2042.Board;
+import com.comp2042.ClearRow;
+import com.comp2042.SimpleBoard;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    @Param({"simple", "bit"})
+    private String engine;
+
+    @Param({"25", "50", "100", "200"})
+    private int rows;
+
+    @Param({"10", "20", "40", "60"})
+    private int columns;
+
+    private Board board;
+    private int holeColumn;
+
+    //every iteration starts from a stack half the board high, built by random drops
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(42);
+        board = "bit".equals(engine) ? new BitBoard(rows, columns, generator) : new SimpleBoard(rows, columns, generator);
+        SplittableRandom random = new SplittableRandom(42);
+        do {
+            board.newGame();
+            while (board.getMetrics().getMaxHeight() < rows / 2 && !dropAnywhere(random)) {
+                // keeps stacking
+            }
+        } while (board.getMetrics().getMaxHeight() < rows / 2);
+    }
+
+    //returns whether the next brick no longer fits
+    private boolean dropAnywhere(SplittableRandom random) {
+        for (int r = random.nextInt(4); r > 0; r--) {
+            board.rotateLeftBrick();
+        }
+        boolean left = random.nextBoolean();
+        for (int s = random.nextInt(columns / 2 + 1); s > 0; s--) {
+            if (left) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+        }
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        board.clearRows();
+        return board.createNewBrick();
+    }
+
+    //the board never locks here, so once the brick reaches the floor a fresh one is spawned
+    @Benchmark
+    public boolean moveBrickDown() {
+        if (!board.moveBrickDown()) {
+            board.createNewBrick();
+            return false;
+        }
+        return true;
+    }
+
+    @Benchmark
+    public void moveBrickLeftRight(Blackhole blackhole) {
+        blackhole.consume(board.moveBrickLeft());
+        blackhole.consume(board.moveBrickRight());
+    }
+
+    @Benchmark
+    public boolean rotateLeftBrick() {
+        return board.rotateLeftBrick();
+    }
+
+    @Benchmark
+    public int getDropDistance() {
+        return board.getDropDistance();
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    //drop, merge, clear and respawn; a topped out board starts a new game
+    @Benchmark
+    public ClearRow lockAndClear() {
+        while (board.moveBrickDown()) {
+            // falls to the stack
+        }
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (board.createNewBrick()) {
+            board.newGame();
+        }
+        return clearRow;
+    }
+
+    //one row with the hole walking across the board; a stack about to overflow starts a new game
+    @Benchmark
+    public boolean addGarbageRow() {
+        if (board.getMetrics().getMaxHeight() + 1 >= rows) {
+            board.newGame();
+        }
+        holeColumn = (holeColumn + 3) % columns;
+        return board.addGarbageRows(1, holeColumn);
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.bench;
+
+import com.comp2042.BitBoard;
+import com.comp2042.BoardConfig;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.ai.AiPolicy;
+import com.comp2042.logic.ai.Heuristic;
+import com.comp2042.logic.ai.ParallelLookaheadSearch;
+import com.comp2042.logic.ai.SearchStats;
+import com.comp2042.logic.ai.TranspositionTable;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays one headless game with the lookahead search and prints search throughput, for comparing
+ * thread counts. Arguments: threads, bricks, preview size, budget in milliseconds, seed, and
+ * {@code cache} to search with a transposition table; plus, anywhere, the board options read by
+ * {@link BoardConfig#parse}. Run it from the benchmark jar with {@code java -cp benchmarks.jar com.comp2042.bench.LookaheadSearchMain}.
+ */
+public class LookaheadSearchMain {
+
+    public static void main(String[] args) {
+        BoardConfig board = BoardConfig.parse(Arrays.asList(args));
+        args = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toArray(String[]::new);
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int bricks = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int previewSize = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        long budgetMillis = args.length > 3 ? Long.parseLong(args[3]) : GameEngine.GRAVITY_MILLIS / 4;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+        TranspositionTable table = args.length > 5 && "cache".equals(args[5]) ? new TranspositionTable(1 << 20) : null;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            ParallelLookaheadSearch search = new ParallelLookaheadSearch(Heuristic.DEFAULT, pool, table);
+            AiPolicy policy = new AiPolicy(search, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+            GameEngine engine = new GameEngine(new BitBoard(board, new RandomBrickGenerator(seed, previewSize)));
+            long nodes = 0;
+            long nanos = 0;
+            int depths = 0;
+            int timeouts = 0;
+            int searches = 0;
+            while (!engine.isGameOver() && engine.getBricksPlaced() < bricks) {
+                long placed = engine.getBricksPlaced();
+                policy.onBrickSpawned(engine.getBoard());
+                SearchStats stats = search.getLastStats();
+                nodes += stats.getNodes();
+                nanos += stats.getElapsedNanos();
+                depths += stats.getDepth();
+                timeouts += stats.isTimedOut() ? 1 : 0;
+                searches++;
+                EventType move;
+                while ((move = policy.nextMove(engine.getBoard())) != null && move != EventType.DOWN) {
+                    engine.handle(new MoveEvent(move, EventSource.USER));
+                }
+                while (engine.getBricksPlaced() == placed && !engine.isGameOver()) {
+                    engine.handleTick();
+                }
+            }
+            System.out.printf("threads=%d searches=%d lines=%d avg depth=%.2f timeouts=%d%n"
+                            + "nodes=%d in %.1f ms (%.0f nodes/s)%n",
+                    threads, searches, engine.getLinesCleared(), searches == 0 ? 0 : depths / (double) searches, timeouts,
+                    nodes, nanos / 1_000_000.0, nanos == 0 ? 0 : nodes * 1_000_000_000.0 / nanos);
+            if (table != null) {
+                System.out.println(table);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
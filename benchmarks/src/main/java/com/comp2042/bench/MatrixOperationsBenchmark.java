@@ -0,0 +1,98 @@
+package com.comp2042.bench;
+
+import com.comp2042.MatrixOperations;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    @Param({"25", "50", "100"})
+    private int rows;
+
+    @Param({"10", "20", "40"})
+    private int columns;
+
+    private int[][] stack;
+    private int[][] stackWithFullRows;
+    private int[][] scratch;
+    private int[] rowFill;
+    private int[] clearedRows;
+    private int[][] brick;
+    private int brickX;
+    private int brickY;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        stack = new int[rows][columns];
+        stackWithFullRows = new int[rows][columns];
+        for (int i = rows / 2; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                stack[i][j] = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(7);
+                stackWithFullRows[i][j] = i % 4 == 0 ? 1 : stack[i][j];
+            }
+            stack[i][random.nextInt(columns)] = 0;
+        }
+        //the per-row counters a board keeps next to its matrix
+        rowFill = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                rowFill[i] += stackWithFullRows[i][j] != 0 ? 1 : 0;
+            }
+        }
+        scratch = new int[rows][columns];
+        clearedRows = new int[rows];
+        brick = new RandomBrickGenerator(42).getBrick().getShapes().get(0).getMatrix();
+        brickX = columns / 2 - 2;
+        brickY = rows / 2 - 4;
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(stack, brick, brickX, brickY);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(stack, brick, brickX, brickY);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(stack);
+    }
+
+    @Benchmark
+    public int removeRowsFromFillCounts() {
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(stackWithFullRows[i], 0, scratch[i], 0, columns);
+        }
+        int removed = 0;
+        for (int i = 0; i < rows; i++) {
+            if (rowFill[i] == columns) {
+                clearedRows[removed++] = i;
+            }
+        }
+        MatrixOperations.removeRows(scratch, clearedRows, removed);
+        return removed;
+    }
+}
@@ -0,0 +1,310 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Board that keeps occupancy as one {@code long} mask per row next to the color matrix, so moves,
+ * rotations and merges never copy the matrix. Collisions and clears only read the masks; the color
+ * matrix is updated in place alongside them.
+ */
+public class BitBoard implements Board {
+
+    private final BoardConfig config;
+    private final int width;
+    private final int height;
+    private final long fullRow;
+    private final long[] rowMasks;
+    private final int[][] matrixView;
+    private final BrickGenerator brickGenerator;
+    private final Score score;
+    private Brick currentBrick;
+    private List<BrickShape> brickShapes;
+    private int rotation;
+    private int currentX;
+    private int currentY;
+    private final int[] clearedRows;
+    private final BoardMetrics metrics;
+    private final ClearRow noRowsCleared;
+    //reused for every clear, so a returned result only holds until this board clears again
+    private final ClearRow rowsCleared;
+    private int mergedFromRow;
+    private int mergedToRow;
+    private int changedFromRow;
+    private int changedToRow;
+
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(BoardConfig.of(width, height), brickGenerator);
+    }
+
+    public BitBoard(BoardConfig config, BrickGenerator brickGenerator) {
+        if (config.getColumns() > RowMasks.MAX_COLUMNS) {
+            throw new IllegalArgumentException("BitBoard supports at most " + RowMasks.MAX_COLUMNS + " columns, got " + config.getColumns());
+        }
+        this.config = config;
+        width = config.getRows();
+        height = config.getColumns();
+        fullRow = (1L << height) - 1;
+        rowMasks = new long[width];
+        matrixView = new int[width][height];
+        this.brickGenerator = brickGenerator;
+        score = new Score();
+        clearedRows = new int[width];
+        metrics = new BoardMetrics(width, height);
+        noRowsCleared = new ClearRow(0, matrixView, 0);
+        rowsCleared = new ClearRow(matrixView, clearedRows);
+        resetMergedRows();
+        changedToRow = width - 1;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(currentX, currentY + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(currentX - 1, currentY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(currentX + 1, currentY);
+    }
+
+    private boolean tryMove(int x, int y) {
+        if (intersects(brickShapes.get(rotation), x, y)) {
+            return false;
+        }
+        currentX = x;
+        currentY = y;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = (rotation + 1) % brickShapes.size();
+        if (intersects(brickShapes.get(nextRotation), currentX, currentY)) {
+            return false;
+        }
+        rotation = nextRotation;
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        currentBrick = brickGenerator.getBrick();
+        brickShapes = currentBrick.getShapes();
+        rotation = 0;
+        currentX = config.getSpawnX();
+        currentY = config.getSpawnY();
+        return intersects(brickShapes.get(rotation), currentX, currentY);
+    }
+
+    private boolean intersects(BrickShape shape, int x, int y) {
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            long mask = shape.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= width) {
+                return true;
+            }
+            long shifted = RowMasks.shift(mask, x);
+            if (shifted == -1L || (shifted & ~fullRow) != 0 || (shifted & rowMasks[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return matrixView;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickShapes.get(rotation).getMatrix(), currentX, currentY,
+                brickGenerator.getNextBrick().getShapes().get(0).getMatrix(), currentY + getDropDistance());
+    }
+
+    @Override
+    public int getDropDistance() {
+        BrickShape shape = brickShapes.get(rotation);
+        int distance = metrics.getDropDistance(shape, currentX, currentY);
+        if (distance < 0) {
+            distance = 0;
+            while (!intersects(shape, currentX, currentY + distance + 1)) {
+                distance++;
+            }
+        }
+        return distance;
+    }
+
+    @Override
+    public int hardDrop() {
+        int distance = getDropDistance();
+        currentY += distance;
+        return distance;
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickShapes.get(rotation);
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            rowMasks[currentY + i] |= RowMasks.shift(shape.getRowMask(i), currentX);
+        }
+        metrics.stack(shape, currentX, currentY);
+        mergedFromRow = Math.min(mergedFromRow, currentY + shape.getMinRow());
+        mergedToRow = Math.max(mergedToRow, currentY + shape.getMaxRow());
+        int color = shape.getColor();
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            matrixView[currentY + shape.getCellRow(k)][currentX + shape.getCellColumn(k)] = color;
+        }
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int removed = 0;
+        for (int i = mergedFromRow; i <= mergedToRow; i++) {
+            if (rowMasks[i] == fullRow) {
+                clearedRows[removed++] = i;
+            }
+        }
+        changedFromRow = removed > 0 ? 0 : mergedFromRow;
+        changedToRow = mergedToRow;
+        resetMergedRows();
+        if (removed == 0) {
+            return noRowsCleared;
+        }
+        int shift = 0;
+        for (int i = clearedRows[removed - 1]; i >= 0; i--) {
+            if (rowMasks[i] == fullRow) {
+                shift++;
+            } else if (shift > 0) {
+                rowMasks[i + shift] = rowMasks[i];
+            }
+        }
+        Arrays.fill(rowMasks, 0, removed, 0L);
+        MatrixOperations.removeRows(matrixView, clearedRows, removed);
+        metrics.removeFullRows(clearedRows[removed - 1]);
+        //surviving cells only moved down, so each scan can start from the old surface
+        for (int j = 0; j < height; j++) {
+            int top = metrics.getColumnTop(j);
+            while (top < width && (rowMasks[top] & 1L << j) == 0) {
+                top++;
+            }
+            metrics.settleColumn(j, top);
+        }
+        rowsCleared.set(removed);
+        return rowsCleared;
+    }
+
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        MatrixOperations.checkGarbageRows(count, holeColumn, height);
+        count = Math.min(count, width);
+        boolean overflow = metrics.getMaxHeight() + count > width;
+        MatrixOperations.insertRows(matrixView, count, holeColumn);
+        System.arraycopy(rowMasks, count, rowMasks, 0, width - count);
+        Arrays.fill(rowMasks, width - count, width, fullRow & ~(1L << holeColumn));
+        if (overflow) {
+            metrics.recount(matrixView);
+        } else {
+            metrics.insertRows(count, holeColumn);
+        }
+        changedFromRow = Math.min(changedFromRow, width - metrics.getMaxHeight());
+        changedToRow = width - 1;
+        return overflow;
+    }
+
+    private void resetMergedRows() {
+        mergedFromRow = width;
+        mergedToRow = -1;
+    }
+
+    @Override
+    public int getChangedFromRow() {
+        return changedFromRow;
+    }
+
+    @Override
+    public int getChangedToRow() {
+        return changedToRow;
+    }
+
+    @Override
+    public BrickShape getBrickShape() {
+        return brickShapes.get(rotation);
+    }
+
+    @Override
+    public int getBrickX() {
+        return currentX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return currentY;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return brickGenerator.getNextBrick();
+    }
+
+    @Override
+    public Brick peekBrick(int index) {
+        return brickGenerator.peekBrick(index);
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return brickGenerator.getPreviewSize();
+    }
+
+    @Override
+    public BoardConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public BoardMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rowMasks, 0L);
+        for (int[] row : matrixView) {
+            Arrays.fill(row, 0);
+        }
+        metrics.reset();
+        changedFromRow = 0;
+        changedToRow = width - 1;
+        resetMergedRows();
+        score.reset();
+        createNewBrick();
+    }
+}
@@ -1,5 +1,8 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
 public interface Board {
 
     boolean moveBrickDown();
@@ -16,10 +19,68 @@ public interface Board {
 
     ViewData getViewData();
 
+    /**
+     * Current rotation of the falling brick; the shape is shared and must not be modified.
+     */
+    BrickShape getBrickShape();
+
+    int getBrickX();
+
+    int getBrickY();
+
+    /**
+     * Rows the current brick can still fall before it lands; 0 when it is resting on something.
+     */
+    int getDropDistance();
+
+    /**
+     * Moves the brick straight down onto whatever it lands on in one step, without locking it.
+     *
+     * @return the rows it fell
+     */
+    int hardDrop();
+
+    Brick getCurrentBrick();
+
+    Brick getNextBrick();
+
+    /**
+     * Brick {@code index + 1} places ahead in the queue; index 0 is {@link #getNextBrick()}.
+     */
+    Brick peekBrick(int index);
+
+    int getPreviewSize();
+
     void mergeBrickToBackground();
 
     ClearRow clearRows();
 
+    /**
+     * Pushes the background up by {@code count} rows of garbage, full except for {@code holeColumn},
+     * and widens the changed range to match. Call it between a lock and the next
+     * {@link #createNewBrick()}.
+     *
+     * @return whether filled cells were pushed out through the top
+     * @throws IllegalArgumentException for a negative count or a hole outside the board
+     */
+    boolean addGarbageRows(int count, int holeColumn);
+
+    /**
+     * First row of the background that changed in the last {@link #clearRows()} or {@link #newGame()}.
+     * The range is empty when {@code getChangedFromRow() > getChangedToRow()}.
+     */
+    int getChangedFromRow();
+
+    int getChangedToRow();
+
+    BoardConfig getConfig();
+
+    /**
+     * Row fill, column heights and holes of the background, kept current by
+     * {@link #mergeBrickToBackground()}, {@link #clearRows()} and {@link #newGame()}.
+     */
+    BoardMetrics getMetrics();
+
     Score getScore();
 
     void newGame();
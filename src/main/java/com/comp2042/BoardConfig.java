@@ -0,0 +1,162 @@
+package com.comp2042;
+
+import java.util.List;
+
+/**
+ * Size of the playfield and where bricks appear, fixed for the life of a board. Rows count from the
+ * top; the first {@link #getHiddenRows()} of them are part of the game but not drawn. Bricks spawn
+ * with the top-left corner of their {@code 4x4} box at ({@link #getSpawnX()}, {@link #getSpawnY()}),
+ * which is checked to lie wholly inside the board so the first brick always fits.
+ */
+public final class BoardConfig {
+
+    public static final int BRICK_BOX = 4;
+
+    public static final int DEFAULT_HIDDEN_ROWS = 2;
+
+    private static final int DEFAULT_SPAWN_Y = 10;
+
+    public static final BoardConfig DEFAULT = of(25, 10);
+
+    private static final String ROWS_OPTION = "--rows=";
+    private static final String COLUMNS_OPTION = "--columns=";
+    private static final String HIDDEN_ROWS_OPTION = "--hidden-rows=";
+    private static final String SPAWN_OPTION = "--spawn=";
+
+    private final int rows;
+    private final int columns;
+    private final int hiddenRows;
+    private final int spawnX;
+    private final int spawnY;
+
+    /**
+     * @throws IllegalArgumentException when the board cannot hold a brick at the spawn point, or
+     *                                  would show no rows at all
+     */
+    public BoardConfig(int rows, int columns, int hiddenRows, int spawnX, int spawnY) {
+        if (rows < BRICK_BOX || columns < BRICK_BOX) {
+            throw new IllegalArgumentException("board must be at least " + BRICK_BOX + "x" + BRICK_BOX
+                    + ", got " + rows + "x" + columns);
+        }
+        if (hiddenRows < 0 || hiddenRows >= rows) {
+            throw new IllegalArgumentException("hiddenRows must be between 0 and " + (rows - 1) + ", got " + hiddenRows);
+        }
+        if (spawnX < 0 || spawnX > columns - BRICK_BOX || spawnY < 0 || spawnY > rows - BRICK_BOX) {
+            throw new IllegalArgumentException("spawn (" + spawnX + ", " + spawnY + ") puts a brick outside a "
+                    + rows + "x" + columns + " board");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.hiddenRows = hiddenRows;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+    }
+
+    /**
+     * A board of the given size with the default hidden rows and spawn: just left of the middle
+     * column, on row 10 or as low as the board allows.
+     */
+    public static BoardConfig of(int rows, int columns) {
+        return new BoardConfig(rows, columns, Math.min(DEFAULT_HIDDEN_ROWS, rows - 1),
+                defaultSpawnX(columns), defaultSpawnY(rows));
+    }
+
+    private static int defaultSpawnX(int columns) {
+        return Math.max(0, Math.min(columns / 2 - 1, columns - BRICK_BOX));
+    }
+
+    private static int defaultSpawnY(int rows) {
+        return Math.max(0, Math.min(DEFAULT_SPAWN_Y, rows - BRICK_BOX));
+    }
+
+    /**
+     * Reads {@code --rows=}, {@code --columns=}, {@code --hidden-rows=} and {@code --spawn=x,y} from
+     * command line arguments, ignoring any others. Whatever is not given keeps its default for the
+     * resulting size.
+     *
+     * @throws IllegalArgumentException for a malformed number or an invalid combination
+     */
+    public static BoardConfig parse(List<String> args) {
+        int rows = DEFAULT.rows;
+        int columns = DEFAULT.columns;
+        Integer hiddenRows = null;
+        Integer spawnX = null;
+        Integer spawnY = null;
+        for (String arg : args) {
+            if (arg.startsWith(ROWS_OPTION)) {
+                rows = parseInt(ROWS_OPTION, arg.substring(ROWS_OPTION.length()));
+            } else if (arg.startsWith(COLUMNS_OPTION)) {
+                columns = parseInt(COLUMNS_OPTION, arg.substring(COLUMNS_OPTION.length()));
+            } else if (arg.startsWith(HIDDEN_ROWS_OPTION)) {
+                hiddenRows = parseInt(HIDDEN_ROWS_OPTION, arg.substring(HIDDEN_ROWS_OPTION.length()));
+            } else if (arg.startsWith(SPAWN_OPTION)) {
+                String value = arg.substring(SPAWN_OPTION.length());
+                int comma = value.indexOf(',');
+                if (comma < 0) {
+                    throw new IllegalArgumentException(SPAWN_OPTION + " expects x,y, got " + value);
+                }
+                spawnX = parseInt(SPAWN_OPTION, value.substring(0, comma));
+                spawnY = parseInt(SPAWN_OPTION, value.substring(comma + 1));
+            }
+        }
+        return new BoardConfig(rows, columns,
+                hiddenRows != null ? hiddenRows : Math.min(DEFAULT_HIDDEN_ROWS, rows - 1),
+                spawnX != null ? spawnX : defaultSpawnX(columns),
+                spawnY != null ? spawnY : defaultSpawnY(rows));
+    }
+
+    private static int parseInt(String option, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " expects a whole number, got " + value, e);
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getHiddenRows() {
+        return hiddenRows;
+    }
+
+    public int getVisibleRows() {
+        return rows - hiddenRows;
+    }
+
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardConfig)) {
+            return false;
+        }
+        BoardConfig other = (BoardConfig) o;
+        return rows == other.rows && columns == other.columns && hiddenRows == other.hiddenRows
+                && spawnX == other.spawnX && spawnY == other.spawnY;
+    }
+
+    @Override
+    public int hashCode() {
+        return (((rows * 31 + columns) * 31 + hiddenRows) * 31 + spawnX) * 31 + spawnY;
+    }
+
+    @Override
+    public String toString() {
+        return rows + "x" + columns + " (hidden " + hiddenRows + ", spawn " + spawnX + "," + spawnY + ")";
+    }
+}
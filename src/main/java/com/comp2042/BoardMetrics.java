@@ -0,0 +1,179 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Aggregates of a board's background, kept up to date as bricks lock and rows clear so evaluators
+ * never rescan the matrix: filled cells per row, the surface of every column and the number of
+ * holes, meaning empty cells below their column's surface. Rows count from the top as in the matrix.
+ */
+public final class BoardMetrics {
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowFill;
+    private final int[] columnTops;
+    private int cells;
+    private int aggregateHeight;
+
+    BoardMetrics(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        rowFill = new int[rows];
+        columnTops = new int[columns];
+        reset();
+    }
+
+    void reset() {
+        Arrays.fill(rowFill, 0);
+        Arrays.fill(columnTops, rows);
+        cells = 0;
+        aggregateHeight = 0;
+    }
+
+    void stack(BrickShape shape, int x, int y) {
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            rowFill[y + shape.getCellRow(k)]++;
+        }
+        cells += shape.getCellCount();
+        for (int j = shape.getMinColumn(); j <= shape.getMaxColumn(); j++) {
+            if (shape.getColumnTop(j) >= 0) {
+                raiseColumn(x + j, y + shape.getColumnTop(j));
+            }
+        }
+    }
+
+    private void raiseColumn(int column, int top) {
+        if (top < columnTops[column]) {
+            aggregateHeight += columnTops[column] - top;
+            columnTops[column] = top;
+        }
+    }
+
+    /**
+     * Drops the counters of the full rows and shifts the ones above them down, the same way the
+     * board removes the rows. The column surfaces are left for the board to {@link #settleColumn}.
+     *
+     * @param lowestCleared the bottom-most row that was removed
+     */
+    void removeFullRows(int lowestCleared) {
+        int removed = 0;
+        for (int i = lowestCleared; i >= 0; i--) {
+            if (rowFill[i] == columns) {
+                removed++;
+            } else if (removed > 0) {
+                rowFill[i + removed] = rowFill[i];
+            }
+        }
+        Arrays.fill(rowFill, 0, removed, 0);
+        cells -= removed * columns;
+    }
+
+    /**
+     * Moves a column's surface down to {@code top} after rows were removed beneath it.
+     */
+    void settleColumn(int column, int top) {
+        aggregateHeight -= top - columnTops[column];
+        columnTops[column] = top;
+    }
+
+    /**
+     * Accounts for {@code count} rows added at the bottom, full except for {@code holeColumn}, with
+     * everything else pushed up. The top {@code count} rows must have been empty; when they were
+     * not, {@link #recount} instead.
+     */
+    void insertRows(int count, int holeColumn) {
+        System.arraycopy(rowFill, count, rowFill, 0, rows - count);
+        Arrays.fill(rowFill, rows - count, rows, columns - 1);
+        cells += count * (columns - 1);
+        for (int j = 0; j < columns; j++) {
+            int top = columnTops[j];
+            int raised = top < rows ? top - count : j == holeColumn ? rows : rows - count;
+            aggregateHeight += top - raised;
+            columnTops[j] = raised;
+        }
+    }
+
+    /**
+     * Rebuilds every counter from the matrix.
+     */
+    void recount(int[][] matrix) {
+        reset();
+        for (int i = 0; i < rows; i++) {
+            int[] row = matrix[i];
+            for (int j = 0; j < columns; j++) {
+                if (row[j] != 0) {
+                    rowFill[i]++;
+                    if (columnTops[j] == rows) {
+                        columnTops[j] = i;
+                        aggregateHeight += rows - i;
+                    }
+                }
+            }
+            cells += rowFill[i];
+        }
+    }
+
+    /**
+     * @see BrickShape#getDropDistance(int[], int, int)
+     */
+    int getDropDistance(BrickShape shape, int x, int y) {
+        return shape.getDropDistance(columnTops, x, y);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRowFill(int row) {
+        return rowFill[row];
+    }
+
+    /**
+     * Highest filled row of the column, or {@link #getRows()} when it is empty.
+     */
+    public int getColumnTop(int column) {
+        return columnTops[column];
+    }
+
+    public int getColumnHeight(int column) {
+        return rows - columnTops[column];
+    }
+
+    public int getMaxHeight() {
+        int top = rows;
+        for (int j = 0; j < columns; j++) {
+            top = Math.min(top, columnTops[j]);
+        }
+        return rows - top;
+    }
+
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    public int getBumpiness() {
+        int bumpiness = 0;
+        for (int j = 1; j < columns; j++) {
+            bumpiness += Math.abs(columnTops[j] - columnTops[j - 1]);
+        }
+        return bumpiness;
+    }
+
+    public int getCellCount() {
+        return cells;
+    }
+
+    /**
+     * Every cell under a column's surface is either filled or a hole.
+     */
+    public int getHoleCount() {
+        return aggregateHeight - cells;
+    }
+}
@@ -1,26 +1,41 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
 
 public class BrickRotator {
 
     private Brick brick;
     private int currentShape = 0;
 
-    public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+    public int getNextRotation() {
+        return (currentShape + 1) % brick.getShapes().size();
     }
 
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return getCurrentBrickShape().getMatrix();
+    }
+
+    public BrickShape getCurrentBrickShape() {
+        return brick.getShapes().get(currentShape);
+    }
+
+    public BrickShape getBrickShape(int rotation) {
+        return brick.getShapes().get(rotation);
+    }
+
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     public void setCurrentShape(int currentShape) {
         this.currentShape = currentShape;
     }
 
+    public Brick getBrick() {
+        return brick;
+    }
+
     public void setBrick(Brick brick) {
         this.brick = brick;
         currentShape = 0;
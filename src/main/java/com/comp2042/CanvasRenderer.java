@@ -0,0 +1,144 @@
+package com.comp2042;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws the board, the ghost piece and the falling brick onto one {@link Canvas} using a cached tile
+ * image per color, so a board costs a single scene graph node. Only the cells under the previous and
+ * the new brick and ghost are repainted when the brick moves.
+ */
+public class CanvasRenderer implements GameRenderer {
+
+    private static final double GHOST_ALPHA = 0.3;
+
+    private final Canvas canvas;
+
+    private final int cellSize;
+
+    private final int gap;
+
+    private final int hiddenRows;
+
+    private final Image[] tiles = new Image[CellColors.COLOR_COUNT];
+
+    private GraphicsContext graphics;
+
+    private int[][] background;
+
+    private int[][] brickData;
+
+    private int brickX;
+
+    private int brickY;
+
+    private int ghostY;
+
+    /**
+     * @param hiddenRows rows at the top of the board that are never drawn
+     */
+    public CanvasRenderer(Canvas canvas, int cellSize, int gap, int hiddenRows) {
+        this.canvas = canvas;
+        this.cellSize = cellSize;
+        this.gap = gap;
+        this.hiddenRows = hiddenRows;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        canvas.setWidth(columns * (cellSize + gap) - gap);
+        canvas.setHeight((rows - hiddenRows) * (cellSize + gap) - gap);
+        graphics = canvas.getGraphicsContext2D();
+        createTiles();
+        background = new int[rows][columns];
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        refreshGameBackground(boardMatrix, 0, rows - 1);
+        refreshBrick(brick.getBrickData(), brick.getxPosition(), brick.getyPosition(), brick.getGhostYPosition());
+    }
+
+    private void createTiles() {
+        Canvas tileCanvas = new Canvas(cellSize, cellSize);
+        GraphicsContext tileGraphics = tileCanvas.getGraphicsContext2D();
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        for (int color = 1; color < tiles.length; color++) {
+            tileGraphics.clearRect(0, 0, cellSize, cellSize);
+            tileGraphics.setFill(CellColors.getFillColor(color));
+            tileGraphics.fillRoundRect(0, 0, cellSize, cellSize, 9, 9);
+            tiles[color] = tileCanvas.snapshot(parameters, null);
+        }
+    }
+
+    @Override
+    public void refreshBrick(int[][] brickData, int x, int y, int ghostY) {
+        if (this.brickData != null) {
+            restore(this.brickData, brickX, this.ghostY);
+            restore(this.brickData, brickX, brickY);
+        }
+        this.brickData = brickData;
+        brickX = x;
+        brickY = y;
+        this.ghostY = ghostY;
+        drawBrick();
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board, int fromRow, int toRow) {
+        for (int i = Math.max(fromRow, hiddenRows); i <= toRow; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                background[i][j] = board[i][j];
+                drawCell(i, j, board[i][j]);
+            }
+        }
+        if (brickData != null) {
+            drawBrick();
+        }
+    }
+
+    private void drawBrick() {
+        graphics.setGlobalAlpha(GHOST_ALPHA);
+        draw(brickData, brickX, ghostY);
+        graphics.setGlobalAlpha(1);
+        draw(brickData, brickX, brickY);
+    }
+
+    private void draw(int[][] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0 && isVisible(y + i, x + j)) {
+                    drawTile(y + i, x + j, shape[i][j]);
+                }
+            }
+        }
+    }
+
+    private void restore(int[][] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0 && isVisible(y + i, x + j)) {
+                    drawCell(y + i, x + j, background[y + i][x + j]);
+                }
+            }
+        }
+    }
+
+    private boolean isVisible(int row, int column) {
+        return row >= hiddenRows && row < background.length && column >= 0 && column < background[row].length;
+    }
+
+    private void drawCell(int row, int column, int color) {
+        graphics.clearRect(column * (cellSize + gap), (row - hiddenRows) * (cellSize + gap), cellSize, cellSize);
+        if (color != 0) {
+            drawTile(row, column, color);
+        }
+    }
+
+    private void drawTile(int row, int column, int color) {
+        graphics.drawImage(tiles[Math.min(color, tiles.length - 1)], column * (cellSize + gap), (row - hiddenRows) * (cellSize + gap));
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+final class CellColors {
+
+    static final int COLOR_COUNT = 9;
+
+    private CellColors() {
+
+    }
+
+    static Paint getFillColor(int i) {
+        Paint returnPaint;
+        switch (i) {
+            case 0:
+                returnPaint = Color.TRANSPARENT;
+                break;
+            case 1:
+                returnPaint = Color.AQUA;
+                break;
+            case 2:
+                returnPaint = Color.BLUEVIOLET;
+                break;
+            case 3:
+                returnPaint = Color.DARKGREEN;
+                break;
+            case 4:
+                returnPaint = Color.YELLOW;
+                break;
+            case 5:
+                returnPaint = Color.RED;
+                break;
+            case 6:
+                returnPaint = Color.BEIGE;
+                break;
+            case 7:
+                returnPaint = Color.BURLYWOOD;
+                break;
+            case MatrixOperations.GARBAGE_COLOR:
+                returnPaint = Color.DARKGRAY;
+                break;
+            default:
+                returnPaint = Color.WHITE;
+                break;
+        }
+        return returnPaint;
+    }
+}
@@ -2,16 +2,31 @@ package com.comp2042;
 
 public final class ClearRow {
 
-    private final int linesRemoved;
+    private int linesRemoved;
     private final int[][] newMatrix;
-    private final int scoreBonus;
+    private int scoreBonus;
+    private final int[] clearedRows;
 
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(newMatrix, new int[0]);
         this.linesRemoved = linesRemoved;
-        this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
     }
 
+    /**
+     * Result a board reuses for every clear: it views the board's own matrix and cleared-rows
+     * buffer, and {@link #set(int)} updates the counts in place.
+     */
+    ClearRow(int[][] newMatrix, int[] clearedRows) {
+        this.newMatrix = newMatrix;
+        this.clearedRows = clearedRows;
+    }
+
+    void set(int linesRemoved) {
+        this.linesRemoved = linesRemoved;
+        scoreBonus = MatrixOperations.scoreBonus(linesRemoved);
+    }
+
     public int getLinesRemoved() {
         return linesRemoved;
     }
@@ -23,4 +38,8 @@ public final class ClearRow {
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    public int getClearedRow(int index) {
+        return clearedRows[index];
+    }
 }
@@ -1,65 +1,201 @@
 package com.comp2042;
 
-public class GameController implements InputEventListener {
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.GameListener;
+import com.comp2042.logic.GameLoop;
+import com.comp2042.logic.TripleBuffer;
+import com.comp2042.logic.ai.AiPolicy;
+import com.comp2042.logic.ai.Heuristic;
+import com.comp2042.logic.ai.ParallelLookaheadSearch;
+import com.comp2042.logic.ai.TranspositionTable;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.replay.ReplayHeader;
+import com.comp2042.logic.replay.ReplayWriter;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleLongProperty;
 
-    private Board board = new SimpleBoard(25, 10);
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class GameController implements InputEventListener, GameListener {
+
+    private final GameEngine engine;
 
     private final GuiController viewGuiController;
 
-    public GameController(GuiController c) {
+    private final LongProperty score = new SimpleLongProperty(0);
+
+    private static final int AUTOPLAY_PREVIEW = 2;
+
+    private static final long AUTOPLAY_BUDGET_MILLIS = GameEngine.GRAVITY_MILLIS / 4;
+
+    private static final int AUTOPLAY_CACHE_ENTRIES = 1 << 16;
+
+    private final AiPolicy autoplay = new AiPolicy(
+            new ParallelLookaheadSearch(Heuristic.DEFAULT, ForkJoinPool.commonPool(), new TranspositionTable(AUTOPLAY_CACHE_ENTRIES)),
+            TimeUnit.MILLISECONDS.toNanos(AUTOPLAY_BUDGET_MILLIS));
+
+    private final long seed = System.nanoTime();
+
+    private ReplayWriter replayWriter;
+
+    private GameLoop loop;
+
+    private final BoardConfig config;
+
+    private final TripleBuffer<GameSnapshot> snapshots;
+
+    private boolean autoplayEnabled;
+
+    //written on the loop thread only
+    private boolean backgroundChanged;
+    private int changedFromRow;
+    private int changedToRow;
+    private long boardVersion;
+    private int versionFromRow;
+    private int versionToRow;
+    private long sequence;
+    private long clears;
+    private int lastScoreBonus;
+
+    public static GameController create(GuiController c) {
+        return create(c, false);
+    }
+
+    /**
+     * Builds the game and hooks it up to the view, the listeners and the loop only once it is
+     * complete, so none of their callbacks can see a half-built controller.
+     */
+    public static GameController create(GuiController c, boolean useBitBoard) {
+        return create(c, useBitBoard, BoardConfig.DEFAULT);
+    }
+
+    public static GameController create(GuiController c, boolean useBitBoard, BoardConfig config) {
+        GameController controller = new GameController(c, useBitBoard, config);
+        controller.attach();
+        return controller;
+    }
+
+    private GameController(GuiController c, boolean useBitBoard, BoardConfig config) {
+        this.config = config;
+        snapshots = new TripleBuffer<>(() -> new GameSnapshot(config.getRows(), config.getColumns()));
+        versionToRow = config.getRows() - 1;
+        BrickGenerator generator = BrickGeneratorMode.UNIFORM.create(seed, AUTOPLAY_PREVIEW);
+        engine = new GameEngine(useBitBoard ? new BitBoard(config, generator) : new SimpleBoard(config, generator));
         viewGuiController = c;
-        board.createNewBrick();
+        resetChangedRows();
+    }
+
+    private void attach() {
+        loop = new GameLoop(engine, this::publishSnapshot);
+        engine.setListener(this);
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        viewGuiController.initGameView(engine.getBoard().getBoardMatrix(), engine.getBoard().getViewData(), config.getHiddenRows());
+        viewGuiController.bindScore(score);
+        publishSnapshot();
     }
 
-    @Override
-    public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-            }
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver();
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
+    /**
+     * Starts the logic loop and the render pass. Until then the game is frozen on its first brick.
+     */
+    public void start() {
+        loop.start();
+        viewGuiController.startRendering(snapshots::acquire);
+    }
+
+    /**
+     * Stops the logic loop and closes any recording.
+     */
+    public void stop() throws IOException, InterruptedException {
+        loop.stop();
+        stopRecording();
+    }
+
+    /**
+     * Records every input from now on, including autoplay and gravity, until {@link #stopRecording()}.
+     * The replay starts from the current game's first brick, so call this before {@link #start()}.
+     */
+    public void startRecording(OutputStream out) throws IOException {
+        stopRecording();
+        replayWriter = new ReplayWriter(out, new ReplayHeader(seed, BrickGeneratorMode.UNIFORM, config));
+        engine.setRecorder(replayWriter);
+    }
+
+    /**
+     * Only safe once the loop is stopped or before it starts.
+     */
+    public void stopRecording() throws IOException {
+        if (replayWriter != null) {
+            engine.setRecorder(null);
+            replayWriter.close();
+            replayWriter = null;
         }
-        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * @param dasMillis how long a sideways key is held before it repeats
+     * @param arrMillis time between repeats, or 0 to slide to the wall at once
+     */
+    public void setAutoRepeat(long dasMillis, long arrMillis) {
+        loop.setAutoRepeat(Math.max(1, GameLoop.toTicks(dasMillis)), GameLoop.toTicks(arrMillis));
     }
 
     @Override
-    public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+    public void onKeyPressed(EventType type) {
+        loop.getInput().press(type);
     }
 
     @Override
-    public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+    public void onKeyReleased(EventType type) {
+        loop.getInput().release(type);
     }
 
     @Override
-    public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+    public void createNewGame() {
+        loop.newGame();
     }
 
+    @Override
+    public void toggleAutoplay() {
+        autoplayEnabled = !autoplayEnabled;
+        loop.setAutoplay(autoplayEnabled ? autoplay : null);
+    }
 
     @Override
-    public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    public void onBackgroundChanged(int[][] boardMatrix, int fromRow, int toRow) {
+        backgroundChanged = true;
+        changedFromRow = Math.min(changedFromRow, fromRow);
+        changedToRow = Math.max(changedToRow, toRow);
+    }
+
+    @Override
+    public void onRowsCleared(ClearRow clearRow) {
+        clears++;
+        lastScoreBonus = clearRow.getScoreBonus();
+    }
+
+    private void publishSnapshot() {
+        Board board = engine.getBoard();
+        if (backgroundChanged) {
+            boardVersion++;
+            versionFromRow = changedFromRow;
+            versionToRow = changedToRow;
+            backgroundChanged = false;
+            resetChangedRows();
+        }
+        GameSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.setBoard(board.getBoardMatrix(), boardVersion, versionFromRow, versionToRow);
+        snapshot.setBrick(board.getBrickShape(), board.getBrickX(), board.getBrickY(),
+                board.getBrickY() + board.getDropDistance(), board.getNextBrick().getShapes().get(0));
+        snapshot.setStats(++sequence, engine.getScore(), clears, lastScoreBonus, engine.isGameOver() || loop.getFailure() != null);
+        snapshots.publish();
+    }
+
+    private void resetChangedRows() {
+        changedFromRow = Integer.MAX_VALUE;
+        changedToRow = -1;
     }
 }
@@ -0,0 +1,13 @@
+package com.comp2042;
+
+public interface GameRenderer {
+
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * @param brickData the falling brick's shape; shared between frames and never modified
+     */
+    void refreshBrick(int[][] brickData, int x, int y, int ghostY);
+
+    void refreshGameBackground(int[][] board, int fromRow, int toRow);
+}
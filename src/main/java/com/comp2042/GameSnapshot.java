@@ -0,0 +1,142 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * One of the preallocated buffers the logic thread fills and hands to the render pass through a
+ * {@link com.comp2042.logic.TripleBuffer}. A reader may use everything in it until it acquires the
+ * next buffer; the brick matrices are shared shape tables and are never modified.
+ */
+public final class GameSnapshot {
+
+    private final int[][] boardMatrix;
+    private long boardVersion = -1;
+    private int changedFromRow;
+    private int changedToRow;
+    private long sequence;
+    private int[][] brickData;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private int[][] nextBrickData;
+    private long score;
+    private long linesCleared;
+    private int level;
+    private int combo;
+    private long clears;
+    private int lastScoreBonus;
+    private boolean gameOver;
+
+    public GameSnapshot(int rows, int columns) {
+        boardMatrix = new int[rows][columns];
+    }
+
+    /**
+     * Copies the board only when this buffer still holds an older version.
+     *
+     * @param changedFromRow first row that differs from the board of version {@code boardVersion - 1}
+     */
+    void setBoard(int[][] board, long boardVersion, int changedFromRow, int changedToRow) {
+        if (this.boardVersion != boardVersion) {
+            for (int i = 0; i < boardMatrix.length; i++) {
+                System.arraycopy(board[i], 0, boardMatrix[i], 0, boardMatrix[i].length);
+            }
+            this.boardVersion = boardVersion;
+        }
+        this.changedFromRow = changedFromRow;
+        this.changedToRow = changedToRow;
+    }
+
+    void setBrick(BrickShape shape, int x, int y, int ghostY, BrickShape next) {
+        brickData = shape.getMatrix();
+        brickX = x;
+        brickY = y;
+        this.ghostY = ghostY;
+        nextBrickData = next.getMatrix();
+    }
+
+    /**
+     * @param clears number of locks that removed rows so far, to spot new clears
+     */
+    void setStats(long sequence, Score score, long clears, int lastScoreBonus, boolean gameOver) {
+        this.sequence = sequence;
+        this.score = score.getScore();
+        linesCleared = score.getLines();
+        level = score.getLevel();
+        combo = score.getCombo();
+        this.clears = clears;
+        this.lastScoreBonus = lastScoreBonus;
+        this.gameOver = gameOver;
+    }
+
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    public int getChangedFromRow() {
+        return changedFromRow;
+    }
+
+    public int getChangedToRow() {
+        return changedToRow;
+    }
+
+    /**
+     * Increases with every publish; 0 until the first one.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int[][] getBrickData() {
+        return brickData;
+    }
+
+    public int getBrickX() {
+        return brickX;
+    }
+
+    public int getBrickY() {
+        return brickY;
+    }
+
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    public int[][] getNextBrickData() {
+        return nextBrickData;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public long getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    public long getClears() {
+        return clears;
+    }
+
+    public int getLastScoreBonus() {
+        return lastScoreBonus;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
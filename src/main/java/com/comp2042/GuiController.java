@@ -1,32 +1,38 @@
 package com.comp2042;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.effect.Reflection;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.function.Supplier;
 
 public class GuiController implements Initializable {
 
     private static final int BRICK_SIZE = 20;
 
+    private static final int CELL_GAP = 1;
+
+    //room around the board in the window: the default 10 by 23 visible cells fill 300x510
+    private static final int SCENE_MARGIN_WIDTH = 90;
+
+    private static final int SCENE_MARGIN_HEIGHT = 27;
+
+    private static final int NOTIFICATION_POPUPS = 4;
+
     @FXML
     private GridPane gamePanel;
 
@@ -39,18 +45,30 @@ public class GuiController implements Initializable {
     @FXML
     private GameOverPanel gameOverPanel;
 
-    private Rectangle[][] displayMatrix;
+    private GameRenderer renderer;
+
+    private boolean canvasRendering;
 
     private InputEventListener eventListener;
 
-    private Rectangle[][] rectangles;
+    private AnimationTimer renderTimer;
+
+    private long renderedSequence;
 
-    private Timeline timeLine;
+    private long renderedBoardVersion = -1;
+
+    private long renderedClears;
+
+    private boolean renderedGameOver;
+
+    private LongProperty score;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
 
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
 
+    private NotificationPool notifications;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
@@ -60,29 +78,31 @@ public class GuiController implements Initializable {
             @Override
             public void handle(KeyEvent keyEvent) {
                 if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                    if (keyEvent.getCode() == KeyCode.LEFT || keyEvent.getCode() == KeyCode.A) {
-                        refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.RIGHT || keyEvent.getCode() == KeyCode.D) {
-                        refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
-                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                    EventType type = toEventType(keyEvent.getCode());
+                    if (type != null) {
+                        eventListener.onKeyPressed(type);
                         keyEvent.consume();
                     }
                 }
+                if (keyEvent.getCode() == KeyCode.T && isGameOver.getValue() == Boolean.FALSE) {
+                    eventListener.toggleAutoplay();
+                    keyEvent.consume();
+                }
                 if (keyEvent.getCode() == KeyCode.N) {
                     newGame(null);
                 }
             }
         });
+        //released even while paused, so no key stays held across a pause
+        gamePanel.setOnKeyReleased(keyEvent -> {
+            EventType type = toEventType(keyEvent.getCode());
+            if (type != null) {
+                eventListener.onKeyReleased(type);
+                keyEvent.consume();
+            }
+        });
         gameOverPanel.setVisible(false);
+        notifications = new NotificationPool(groupNotification, NOTIFICATION_POPUPS);
 
         final Reflection reflection = new Reflection();
         reflection.setFraction(0.8);
@@ -90,131 +110,129 @@ public class GuiController implements Initializable {
         reflection.setTopOffset(-12);
     }
 
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
-        }
-
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+    private static EventType toEventType(KeyCode code) {
+        switch (code) {
+            case LEFT:
+            case A:
+                return EventType.LEFT;
+            case RIGHT:
+            case D:
+                return EventType.RIGHT;
+            case UP:
+            case W:
+                return EventType.ROTATE;
+            case DOWN:
+            case S:
+                return EventType.DOWN;
+            case SPACE:
+                return EventType.HARD_DROP;
+            default:
+                return null;
         }
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
+    }
 
+    /**
+     * Window size that shows the visible rows of a board with this configuration.
+     */
+    public static double getSceneWidth(BoardConfig config) {
+        return SCENE_MARGIN_WIDTH + config.getColumns() * (BRICK_SIZE + CELL_GAP);
+    }
 
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+    public static double getSceneHeight(BoardConfig config) {
+        return SCENE_MARGIN_HEIGHT + config.getVisibleRows() * (BRICK_SIZE + CELL_GAP);
     }
 
-    private Paint getFillColor(int i) {
-        Paint returnPaint;
-        switch (i) {
-            case 0:
-                returnPaint = Color.TRANSPARENT;
-                break;
-            case 1:
-                returnPaint = Color.AQUA;
-                break;
-            case 2:
-                returnPaint = Color.BLUEVIOLET;
-                break;
-            case 3:
-                returnPaint = Color.DARKGREEN;
-                break;
-            case 4:
-                returnPaint = Color.YELLOW;
-                break;
-            case 5:
-                returnPaint = Color.RED;
-                break;
-            case 6:
-                returnPaint = Color.BEIGE;
-                break;
-            case 7:
-                returnPaint = Color.BURLYWOOD;
-                break;
-            default:
-                returnPaint = Color.WHITE;
-                break;
+    /**
+     * @param hiddenRows rows at the top of the matrix that are not drawn
+     */
+    public void initGameView(int[][] boardMatrix, ViewData brick, int hiddenRows) {
+        if (canvasRendering) {
+            Canvas canvas = new Canvas();
+            gamePanel.add(canvas, 0, 0);
+            brickPanel.setVisible(false);
+            renderer = new CanvasRenderer(canvas, BRICK_SIZE, (int) gamePanel.getHgap(), hiddenRows);
+        } else {
+            renderer = new RectangleRenderer(gamePanel, brickPanel, BRICK_SIZE, hiddenRows);
         }
-        return returnPaint;
+        renderer.initGameView(boardMatrix, brick);
     }
 
-
-    private void refreshBrick(ViewData brick) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-            brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
+    /**
+     * Draws the latest snapshot once per frame. Frames with no new snapshot cost nothing, and
+     * snapshots published between two frames are skipped. The supplier must hand out a buffer the
+     * logic thread no longer writes to.
+     */
+    public void startRendering(Supplier<GameSnapshot> snapshots) {
+        renderTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                render(snapshots.get());
             }
-        }
+        };
+        renderTimer.start();
     }
 
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    private void render(GameSnapshot snapshot) {
+        if (snapshot.getSequence() == renderedSequence) {
+            return;
+        }
+        if (snapshot.getBoardVersion() != renderedBoardVersion) {
+            if (snapshot.getBoardVersion() == renderedBoardVersion + 1) {
+                refreshGameBackground(snapshot.getBoardMatrix(), snapshot.getChangedFromRow(), snapshot.getChangedToRow());
+            } else {
+                refreshGameBackground(snapshot.getBoardMatrix());
             }
+            renderedBoardVersion = snapshot.getBoardVersion();
         }
+        if (isPause.getValue() == Boolean.FALSE) {
+            renderer.refreshBrick(snapshot.getBrickData(), snapshot.getBrickX(), snapshot.getBrickY(), snapshot.getGhostY());
+        }
+        if (renderedSequence != 0 && snapshot.getClears() != renderedClears) {
+            notifications.show("+" + snapshot.getLastScoreBonus());
+        }
+        if (score != null) {
+            score.set(snapshot.getScore());
+        }
+        if (snapshot.isGameOver() && !renderedGameOver) {
+            gameOver();
+        }
+        renderedSequence = snapshot.getSequence();
+        renderedClears = snapshot.getClears();
+        renderedGameOver = snapshot.isGameOver();
     }
 
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+    public void setCanvasRendering(boolean canvasRendering) {
+        this.canvasRendering = canvasRendering;
     }
 
-    private void moveDown(MoveEvent event) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            refreshBrick(downData.getViewData());
-        }
-        gamePanel.requestFocus();
+    public void refreshGameBackground(int[][] board) {
+        refreshGameBackground(board, 0, board.length - 1);
+    }
+
+    public void refreshGameBackground(int[][] board, int fromRow, int toRow) {
+        renderer.refreshGameBackground(board, fromRow, toRow);
     }
 
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
-    public void bindScore(IntegerProperty integerProperty) {
+    /**
+     * The property is updated from the render pass, on the FX thread.
+     */
+    public void bindScore(LongProperty longProperty) {
+        score = longProperty;
     }
 
     public void gameOver() {
-        timeLine.stop();
         gameOverPanel.setVisible(true);
         isGameOver.setValue(Boolean.TRUE);
     }
 
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
         gameOverPanel.setVisible(false);
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        timeLine.play();
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
     }
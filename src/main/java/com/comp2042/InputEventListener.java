@@ -2,13 +2,15 @@ package com.comp2042;
 
 public interface InputEventListener {
 
-    DownData onDownEvent(MoveEvent event);
+    /**
+     * Reports a key going down; repeats while it is held are ignored. {@link EventType#DOWN} is soft
+     * drop.
+     */
+    void onKeyPressed(EventType type);
 
-    ViewData onLeftEvent(MoveEvent event);
-
-    ViewData onRightEvent(MoveEvent event);
-
-    ViewData onRotateEvent(MoveEvent event);
+    void onKeyReleased(EventType type);
 
     void createNewGame();
+
+    void toggleAutoplay();
 }
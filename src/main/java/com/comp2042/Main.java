@@ -7,10 +7,25 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.ResourceBundle;
 
 public class Main extends Application {
 
+    private static final String RECORD_OPTION = "--record=";
+
+    private static final String DAS_OPTION = "--das=";
+
+    private static final String ARR_OPTION = "--arr=";
+
+    private static final long DEFAULT_DAS_MILLIS = 167;
+
+    private static final long DEFAULT_ARR_MILLIS = 33;
+
+    private GameController gameController;
+
     @Override
     public void start(Stage primaryStage) throws Exception {
 
@@ -19,16 +34,44 @@ public class Main extends Application {
         FXMLLoader fxmlLoader = new FXMLLoader(location, resources);
         Parent root = fxmlLoader.load();
         GuiController c = fxmlLoader.getController();
+        BoardConfig config = BoardConfig.parse(getParameters().getRaw());
 
         primaryStage.setTitle("TetrisJFX");
-        Scene scene = new Scene(root, 300, 510);
+        Scene scene = new Scene(root, GuiController.getSceneWidth(config), GuiController.getSceneHeight(config));
         primaryStage.setScene(scene);
         primaryStage.show();
-        new GameController(c);
+        c.setCanvasRendering(getParameters().getRaw().contains("--canvas"));
+        gameController = GameController.create(c, getParameters().getRaw().contains("--bitboard"), config);
+        long dasMillis = DEFAULT_DAS_MILLIS;
+        long arrMillis = DEFAULT_ARR_MILLIS;
+        for (String arg : getParameters().getRaw()) {
+            if (arg.startsWith(RECORD_OPTION)) {
+                gameController.startRecording(Files.newOutputStream(Paths.get(arg.substring(RECORD_OPTION.length()))));
+            } else if (arg.startsWith(DAS_OPTION)) {
+                dasMillis = Long.parseLong(arg.substring(DAS_OPTION.length()));
+            } else if (arg.startsWith(ARR_OPTION)) {
+                arrMillis = Long.parseLong(arg.substring(ARR_OPTION.length()));
+            }
+        }
+        gameController.setAutoRepeat(dasMillis, arrMillis);
+        gameController.start();
+    }
+
+    @Override
+    public void stop() throws Exception {
+        if (gameController != null) {
+            gameController.stop();
+        }
     }
 
 
     public static void main(String[] args) {
+        try {
+            BoardConfig.parse(Arrays.asList(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
         launch(args);
     }
 }
@@ -1,13 +1,13 @@
 package com.comp2042;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
 public class MatrixOperations {
 
+    /**
+     * Color of the cells in rows added by {@link #insertRows}.
+     */
+    public static final int GARBAGE_COLOR = 8;
 
     //We don't want to instantiate this utility class
     private MatrixOperations(){
@@ -60,40 +60,62 @@ public class MatrixOperations {
         return copy;
     }
 
-    public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
-        Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
-
-        for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
+    public static void mergeInPlace(int[][] filledFields, int[][] brick, int x, int y) {
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                if (brick[i][j] != 0) {
+                    filledFields[y + i][x + j] = brick[i][j];
                 }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
-                clearedRows.add(i);
-            } else {
-                newRows.add(tmpRow);
             }
         }
-        for (int i = matrix.length - 1; i >= 0; i--) {
-            int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
-            } else {
-                break;
-            }
+    }
+
+    /**
+     * Removes the given rows without allocating. Rows above each removed row are shifted down by
+     * reusing the row arrays, and the emptied arrays are moved to the top.
+     *
+     * @param rows indices of the rows to remove in ascending order
+     */
+    public static void removeRows(int[][] matrix, int[] rows, int count) {
+        for (int k = 0; k < count; k++) {
+            int i = rows[k];
+            int[] row = matrix[i];
+            System.arraycopy(matrix, 0, matrix, 1, i);
+            Arrays.fill(row, 0);
+            matrix[0] = row;
+        }
+    }
+
+    /**
+     * Pushes every row up by {@code count} and fills the freed bottom rows with
+     * {@link #GARBAGE_COLOR}, leaving {@code holeColumn} empty. The rows pushed off the top are
+     * reused for the new ones, so nothing is allocated.
+     *
+     * @throws IllegalArgumentException for a negative count or a hole outside the matrix
+     */
+    public static void insertRows(int[][] matrix, int count, int holeColumn) {
+        checkGarbageRows(count, holeColumn, matrix[0].length);
+        int last = matrix.length - 1;
+        for (int k = 0; k < count; k++) {
+            int[] row = matrix[0];
+            System.arraycopy(matrix, 1, matrix, 0, last);
+            Arrays.fill(row, GARBAGE_COLOR);
+            row[holeColumn] = 0;
+            matrix[last] = row;
+        }
+    }
+
+    static void checkGarbageRows(int count, int holeColumn, int columns) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative, got " + count);
+        }
+        if (holeColumn < 0 || holeColumn >= columns) {
+            throw new IllegalArgumentException("holeColumn must be between 0 and " + (columns - 1) + ", got " + holeColumn);
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
     }
 
-    public static List<int[][]> deepCopyList(List<int[][]> list){
-        return list.stream().map(MatrixOperations::copy).collect(Collectors.toList());
+    public static int scoreBonus(int linesRemoved) {
+        return 50 * linesRemoved * linesRemoved;
     }
 
 }
@@ -3,10 +3,6 @@ package com.comp2042;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Effect;
 import javafx.scene.effect.Glow;
@@ -14,33 +10,62 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
+import java.util.function.Consumer;
+
+/**
+ * Score popup that rises and fades out. It is built once, effect and transitions included, and
+ * replayed with new text by {@link #show(String)}; in between it stays in the scene hidden.
+ */
 public class NotificationPanel extends BorderPane {
 
-    public NotificationPanel(String text) {
+    private final Label score;
+
+    private final ParallelTransition transition;
+
+    /**
+     * Builds a popup and only then hands it to its transitions, so no callback can see it half-built.
+     *
+     * @param onHidden called when a popup has faded out completely, not when it is cut short
+     */
+    public static NotificationPanel create(Consumer<NotificationPanel> onHidden) {
+        NotificationPanel panel = new NotificationPanel();
+        panel.transition.setNode(panel);
+        panel.transition.setOnFinished(event -> {
+            panel.setVisible(false);
+            onHidden.accept(panel);
+        });
+        return panel;
+    }
+
+    private NotificationPanel() {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label();
         score.getStyleClass().add("bonusStyle");
         final Effect glow = new Glow(0.6);
         score.setEffect(glow);
         score.setTextFill(Color.WHITE);
         setCenter(score);
+        setVisible(false);
+        setMouseTransparent(true);
 
-    }
-
-    public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
+        //both run on the parallel transition's node
+        FadeTransition ft = new FadeTransition(Duration.millis(2000));
+        TranslateTransition tt = new TranslateTransition(Duration.millis(2500));
+        tt.setFromY(0);
+        tt.setToY(-40);
         ft.setFromValue(1);
         ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
-            }
-        });
-        transition.play();
+        transition = new ParallelTransition(tt, ft);
+    }
+
+    /**
+     * Shows the text and plays the popup from the start, restarting it if it is still running.
+     */
+    public void show(String text) {
+        score.setText(text);
+        toFront();
+        setVisible(true);
+        transition.playFromStart();
     }
 }
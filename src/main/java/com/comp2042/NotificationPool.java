@@ -0,0 +1,39 @@
+package com.comp2042;
+
+import javafx.scene.Group;
+
+import java.util.ArrayDeque;
+
+/**
+ * Fixed set of {@link NotificationPanel}s added to the scene once, so a line clear never creates
+ * nodes, effects or transitions. At most {@code capacity} popups run at the same time; another one
+ * takes over the oldest running popup.
+ */
+class NotificationPool {
+
+    private final ArrayDeque<NotificationPanel> idle = new ArrayDeque<>();
+
+    private final ArrayDeque<NotificationPanel> running = new ArrayDeque<>();
+
+    NotificationPool(Group parent, int capacity) {
+        for (int i = 0; i < capacity; i++) {
+            NotificationPanel panel = NotificationPanel.create(this::onHidden);
+            parent.getChildren().add(panel);
+            idle.add(panel);
+        }
+    }
+
+    void show(String text) {
+        NotificationPanel panel = idle.poll();
+        if (panel == null) {
+            panel = running.poll();
+        }
+        running.add(panel);
+        panel.show(text);
+    }
+
+    private void onHidden(NotificationPanel panel) {
+        running.remove(panel);
+        idle.add(panel);
+    }
+}
@@ -0,0 +1,119 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+class RectangleRenderer implements GameRenderer {
+
+    private static final double GHOST_OPACITY = 0.3;
+
+    private final GridPane gamePanel;
+
+    private final GridPane brickPanel;
+
+    private final int brickSize;
+
+    private final int hiddenRows;
+
+    private Rectangle[][] displayMatrix;
+
+    private int[][] displayedColors;
+
+    private Rectangle[][] rectangles;
+
+    private int[][] brickColors;
+
+    private final GridPane ghostPanel = new GridPane();
+
+    private Rectangle[][] ghostRectangles;
+
+    RectangleRenderer(GridPane gamePanel, GridPane brickPanel, int brickSize, int hiddenRows) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.brickSize = brickSize;
+        this.hiddenRows = hiddenRows;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayedColors = new int[boardMatrix.length][boardMatrix[0].length];
+        for (int i = hiddenRows; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = createCell(Color.TRANSPARENT);
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - hiddenRows);
+            }
+        }
+
+        int[][] brickData = brick.getBrickData();
+        rectangles = new Rectangle[brickData.length][brickData[0].length];
+        ghostRectangles = new Rectangle[brickData.length][brickData[0].length];
+        brickColors = new int[brickData.length][brickData[0].length];
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                Rectangle rectangle = createCell(CellColors.getFillColor(brickData[i][j]));
+                brickColors[i][j] = brickData[i][j];
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+                Rectangle ghost = createCell(CellColors.getFillColor(brickData[i][j]));
+                ghostRectangles[i][j] = ghost;
+                ghostPanel.add(ghost, j, i);
+            }
+        }
+        ghostPanel.setHgap(brickPanel.getHgap());
+        ghostPanel.setVgap(brickPanel.getVgap());
+        ghostPanel.setOpacity(GHOST_OPACITY);
+        ghostPanel.setMouseTransparent(true);
+        Pane parent = (Pane) brickPanel.getParent();
+        parent.getChildren().add(parent.getChildren().indexOf(brickPanel), ghostPanel);
+        moveBrickPanel(brick.getxPosition(), brick.getyPosition(), brick.getGhostYPosition());
+    }
+
+    @Override
+    public void refreshBrick(int[][] brickData, int x, int y, int ghostY) {
+        moveBrickPanel(x, y, ghostY);
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                if (brickColors[i][j] != brickData[i][j]) {
+                    brickColors[i][j] = brickData[i][j];
+                    Paint fill = CellColors.getFillColor(brickData[i][j]);
+                    rectangles[i][j].setFill(fill);
+                    ghostRectangles[i][j].setFill(fill);
+                }
+            }
+        }
+    }
+
+    private void moveBrickPanel(int x, int y, int ghostY) {
+        double layoutX = gamePanel.getLayoutX() + x * brickPanel.getVgap() + x * brickSize;
+        double top = gamePanel.getLayoutY() - hiddenRows * (brickPanel.getHgap() + brickSize);
+        brickPanel.setLayoutX(layoutX);
+        brickPanel.setLayoutY(top + y * brickPanel.getHgap() + y * brickSize);
+        ghostPanel.setLayoutX(layoutX);
+        ghostPanel.setLayoutY(top + ghostY * brickPanel.getHgap() + ghostY * brickSize);
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board, int fromRow, int toRow) {
+        for (int i = Math.max(fromRow, hiddenRows); i <= toRow; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                if (displayedColors[i][j] != board[i][j]) {
+                    displayedColors[i][j] = board[i][j];
+                    displayMatrix[i][j].setFill(CellColors.getFillColor(board[i][j]));
+                }
+            }
+        }
+    }
+
+    private Rectangle createCell(Paint fill) {
+        Rectangle rectangle = new Rectangle(brickSize, brickSize);
+        rectangle.setFill(fill);
+        rectangle.setArcHeight(9);
+        rectangle.setArcWidth(9);
+        return rectangle;
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042;
+
+/**
+ * Helpers for boards and searches that keep each row as a {@code long} occupancy mask, bit {@code j}
+ * being column {@code j}.
+ */
+public final class RowMasks {
+
+    /** Widest board a row mask can hold, leaving headroom for shifted brick masks. */
+    public static final int MAX_COLUMNS = 60;
+
+    //We don't want to instantiate this utility class
+    private RowMasks() {
+
+    }
+
+    /**
+     * Shifts a brick row mask to column {@code x}.
+     *
+     * @return the shifted mask, or -1 when a filled cell would fall off the left edge or out of the word
+     */
+    public static long shift(long mask, int x) {
+        if (x >= 0) {
+            if (x >= Long.SIZE || (mask << x) >>> x != mask) {
+                return -1L;
+            }
+            return mask << x;
+        }
+        if (-x >= Long.SIZE || (mask & ((1L << -x) - 1)) != 0) {
+            return -1L;
+        }
+        return mask >>> -x;
+    }
+}
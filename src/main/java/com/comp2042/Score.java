@@ -1,21 +1,68 @@
 package com.comp2042;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
+/**
+ * Running totals of one game in primitive fields, so scoring never fires listeners and works
+ * headless. The GUI copies them into its properties at most once per rendered frame.
+ */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    public static final int LINES_PER_LEVEL = 10;
+
+    private long score;
+    private long lines;
+    private int level = 1;
+    private int combo;
+    private int maxCombo;
 
-    public IntegerProperty scoreProperty() {
+    public long getScore() {
         return score;
     }
 
-    public void add(int i){
-        score.setValue(score.getValue() + i);
+    public void add(int points) {
+        score += points;
+    }
+
+    /**
+     * Counts a locked brick: one that removed rows adds them and extends the combo, any other ends it.
+     */
+    public void onLock(int linesRemoved) {
+        if (linesRemoved == 0) {
+            combo = 0;
+            return;
+        }
+        lines += linesRemoved;
+        level = 1 + (int) (lines / LINES_PER_LEVEL);
+        combo++;
+        maxCombo = Math.max(maxCombo, combo);
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Starts at 1 and goes up every {@link #LINES_PER_LEVEL} lines.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Consecutive locks that removed rows, up to the last one; 0 after a lock that removed none.
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    public int getMaxCombo() {
+        return maxCombo;
     }
 
     public void reset() {
-        score.setValue(0);
+        score = 0;
+        lines = 0;
+        level = 1;
+        combo = 0;
+        maxCombo = 0;
     }
 }
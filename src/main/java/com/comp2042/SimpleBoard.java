@@ -2,12 +2,15 @@ package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 
 import java.awt.*;
+import java.util.Arrays;
 
 public class SimpleBoard implements Board {
 
+    private final BoardConfig config;
     private final int width;
     private final int height;
     private final BrickGenerator brickGenerator;
@@ -15,14 +18,38 @@ public class SimpleBoard implements Board {
     private int[][] currentGameMatrix;
     private Point currentOffset;
     private final Score score;
+    private final int[] clearedRows;
+    private final BoardMetrics metrics;
+    private final ClearRow noRowsCleared;
+    //reused for every clear, so a returned result only holds until this board clears again
+    private final ClearRow rowsCleared;
+    private int mergedFromRow;
+    private int mergedToRow;
+    private int changedFromRow;
+    private int changedToRow;
 
     public SimpleBoard(int width, int height) {
-        this.width = width;
-        this.height = height;
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(BoardConfig.of(width, height), brickGenerator);
+    }
+
+    public SimpleBoard(BoardConfig config, BrickGenerator brickGenerator) {
+        this.config = config;
+        width = config.getRows();
+        height = config.getColumns();
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
+        clearedRows = new int[width];
+        metrics = new BoardMetrics(width, height);
+        noRowsCleared = new ClearRow(0, currentGameMatrix, 0);
+        rowsCleared = new ClearRow(currentGameMatrix, clearedRows);
+        resetMergedRows();
+        changedToRow = width - 1;
     }
 
     @Override
@@ -71,12 +98,12 @@ public class SimpleBoard implements Board {
     @Override
     public boolean rotateLeftBrick() {
         int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        int nextRotation = brickRotator.getNextRotation();
+        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getBrickShape(nextRotation).getMatrix(), (int) currentOffset.getX(), (int) currentOffset.getY());
         if (conflict) {
             return false;
         } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            brickRotator.setCurrentShape(nextRotation);
             return true;
         }
     }
@@ -85,7 +112,7 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, 10);
+        currentOffset = new Point(config.getSpawnX(), config.getSpawnY());
         return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
     }
 
@@ -96,20 +123,145 @@ public class SimpleBoard implements Board {
 
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().get(0));
+        int y = (int) currentOffset.getY();
+        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), y,
+                brickGenerator.getNextBrick().getShapes().get(0).getMatrix(), y + getDropDistance());
+    }
+
+    @Override
+    public int getDropDistance() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int x = (int) currentOffset.getX();
+        int y = (int) currentOffset.getY();
+        int distance = metrics.getDropDistance(shape, x, y);
+        if (distance < 0) {
+            distance = 0;
+            while (!MatrixOperations.intersect(currentGameMatrix, shape.getMatrix(), x, y + distance + 1)) {
+                distance++;
+            }
+        }
+        return distance;
+    }
+
+    @Override
+    public int hardDrop() {
+        int distance = getDropDistance();
+        currentOffset.translate(0, distance);
+        return distance;
     }
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        MatrixOperations.mergeInPlace(currentGameMatrix, shape.getMatrix(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        metrics.stack(shape, (int) currentOffset.getX(), (int) currentOffset.getY());
+        mergedFromRow = Math.min(mergedFromRow, (int) currentOffset.getY() + shape.getMinRow());
+        mergedToRow = Math.max(mergedToRow, (int) currentOffset.getY() + shape.getMaxRow());
     }
 
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        //only rows the merged bricks touched can have become full
+        int removed = 0;
+        for (int i = mergedFromRow; i <= mergedToRow; i++) {
+            if (metrics.getRowFill(i) == height) {
+                clearedRows[removed++] = i;
+            }
+        }
+        changedFromRow = removed > 0 ? 0 : mergedFromRow;
+        changedToRow = mergedToRow;
+        resetMergedRows();
+        if (removed == 0) {
+            return noRowsCleared;
+        }
+        MatrixOperations.removeRows(currentGameMatrix, clearedRows, removed);
+        metrics.removeFullRows(clearedRows[removed - 1]);
+        //everything left only moved down, so each new surface is at or below the old one
+        for (int j = 0; j < height; j++) {
+            int top = metrics.getColumnTop(j);
+            while (top < width && currentGameMatrix[top][j] == 0) {
+                top++;
+            }
+            metrics.settleColumn(j, top);
+        }
+        rowsCleared.set(removed);
+        return rowsCleared;
+    }
+
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        MatrixOperations.checkGarbageRows(count, holeColumn, height);
+        count = Math.min(count, width);
+        boolean overflow = metrics.getMaxHeight() + count > width;
+        MatrixOperations.insertRows(currentGameMatrix, count, holeColumn);
+        if (overflow) {
+            metrics.recount(currentGameMatrix);
+        } else {
+            metrics.insertRows(count, holeColumn);
+        }
+        changedFromRow = Math.min(changedFromRow, width - metrics.getMaxHeight());
+        changedToRow = width - 1;
+        return overflow;
+    }
+
+    private void resetMergedRows() {
+        mergedFromRow = width;
+        mergedToRow = -1;
+    }
 
+    @Override
+    public int getChangedFromRow() {
+        return changedFromRow;
+    }
+
+    @Override
+    public int getChangedToRow() {
+        return changedToRow;
+    }
+
+    @Override
+    public BrickShape getBrickShape() {
+        return brickRotator.getCurrentBrickShape();
+    }
+
+    @Override
+    public int getBrickX() {
+        return (int) currentOffset.getX();
+    }
+
+    @Override
+    public int getBrickY() {
+        return (int) currentOffset.getY();
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return brickGenerator.getNextBrick();
+    }
+
+    @Override
+    public Brick peekBrick(int index) {
+        return brickGenerator.peekBrick(index);
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return brickGenerator.getPreviewSize();
+    }
+
+    @Override
+    public BoardConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public BoardMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
@@ -120,7 +272,13 @@ public class SimpleBoard implements Board {
 
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        changedFromRow = 0;
+        changedToRow = width - 1;
+        metrics.reset();
+        resetMergedRows();
         score.reset();
         createNewBrick();
     }
@@ -0,0 +1,75 @@
+package com.comp2042;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 varints, the one codec shared by the replay files and the network protocol:
+ * seven bits per byte, least significant group first, high bit set on every byte but the last.
+ * Values below 128 take a single byte and any {@code long} takes at most ten.
+ */
+public final class VarInts {
+
+    //We don't want to instantiate this utility class
+    private VarInts() {
+
+    }
+
+    public static void write(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException when the value does not fit in the buffer
+     */
+    public static void put(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * @throws EOFException when the stream ends inside the varint
+     */
+    public static long read(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint too long");
+    }
+
+    /**
+     * @throws EOFException when the buffer ends inside the varint
+     */
+    public static long get(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException();
+            }
+            int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint too long");
+    }
+}
@@ -0,0 +1,244 @@
+package com.comp2042.logic;
+
+import com.comp2042.Board;
+import com.comp2042.ClearRow;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.Score;
+import com.comp2042.logic.bricks.SplitMix64;
+
+/**
+ * Runs the game rules on a {@link Board} without any UI. Every input, user or gravity, goes through
+ * {@link #step(MoveEvent)}; views subscribe through a {@link GameListener}.
+ */
+public class GameEngine {
+
+    public static final long GRAVITY_MILLIS = 400;
+
+    /**
+     * Most garbage lines added to the board on one lock; the rest waits for the next.
+     */
+    public static final int MAX_GARBAGE_PER_LOCK = 8;
+
+    private static final int HARD_DROP_POINTS_PER_ROW = 2;
+
+    //garbage sent for clearing 0 to 4 rows at once, before the combo bonus
+    private static final int[] GARBAGE_PER_CLEAR = {0, 0, 1, 2, 4};
+
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+        @Override
+        public void onBackgroundChanged(int[][] boardMatrix, int fromRow, int toRow) {
+        }
+
+        @Override
+        public void onRowsCleared(ClearRow clearRow) {
+        }
+    };
+
+    private static final InputRecorder NO_RECORDER = new InputRecorder() {
+        @Override
+        public void onInput(MoveEvent event) {
+        }
+
+        @Override
+        public void onNewGame() {
+        }
+    };
+
+    private final Board board;
+    private GameListener listener = NO_LISTENER;
+    private InputRecorder recorder = NO_RECORDER;
+    private boolean gameOver;
+    private long bricksPlaced;
+    private GarbageQueue incomingGarbage;
+    private GarbageQueue outgoingGarbage;
+    private SplitMix64 garbageHoles;
+    private long garbageSent;
+    private long garbageCancelled;
+    private long garbageReceived;
+
+    public GameEngine(Board board) {
+        this.board = board;
+        gameOver = board.createNewBrick();
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    /**
+     * Plays against an opponent: clears attack through {@code outgoing}, cancelling what is pending
+     * in {@code incoming} first, and a lock that clears nothing adds the incoming lines to the
+     * board. Set it before the game starts; the queues may be shared with another thread.
+     *
+     * @param holeSeed seeds the choice of the empty column in each garbage batch
+     */
+    public void setVersus(GarbageQueue incoming, GarbageQueue outgoing, long holeSeed) {
+        incomingGarbage = incoming;
+        outgoingGarbage = outgoing;
+        garbageHoles = new SplitMix64(holeSeed);
+    }
+
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder == null ? NO_RECORDER : recorder;
+    }
+
+    public DownData step(MoveEvent event) {
+        return new DownData(handle(event), board.getViewData());
+    }
+
+    public DownData tick() {
+        return step(GRAVITY);
+    }
+
+    /**
+     * Applies an input without building view data, returning the rows cleared when it locked the
+     * brick or {@code null} otherwise.
+     */
+    public ClearRow handle(MoveEvent event) {
+        if (gameOver) {
+            return null;
+        }
+        recorder.onInput(event);
+        switch (event.getEventType()) {
+            case DOWN:
+                return moveDown(event);
+            case LEFT:
+                board.moveBrickLeft();
+                break;
+            case RIGHT:
+                board.moveBrickRight();
+                break;
+            case ROTATE:
+                board.rotateLeftBrick();
+                break;
+            case HARD_DROP:
+                return hardDrop();
+        }
+        return null;
+    }
+
+    public ClearRow handleTick() {
+        return handle(GRAVITY);
+    }
+
+    private ClearRow moveDown(MoveEvent event) {
+        if (!board.moveBrickDown()) {
+            return lockBrick();
+        }
+        if (event.getEventSource() == EventSource.USER) {
+            board.getScore().add(1);
+        }
+        return null;
+    }
+
+    private ClearRow hardDrop() {
+        int rows = board.hardDrop();
+        board.getScore().add(HARD_DROP_POINTS_PER_ROW * rows);
+        return lockBrick();
+    }
+
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        bricksPlaced++;
+        ClearRow clearRow = board.clearRows();
+        board.getScore().onLock(clearRow.getLinesRemoved());
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+            listener.onRowsCleared(clearRow);
+        }
+        boolean toppedOut = incomingGarbage != null && exchangeGarbage(clearRow.getLinesRemoved());
+        if (toppedOut || board.createNewBrick()) {
+            gameOver = true;
+            listener.onGameOver();
+        }
+
+        listener.onBackgroundChanged(board.getBoardMatrix(), board.getChangedFromRow(), board.getChangedToRow());
+        return clearRow;
+    }
+
+    /**
+     * @return whether the garbage added pushed the stack out through the top
+     */
+    private boolean exchangeGarbage(int linesRemoved) {
+        if (linesRemoved > 0) {
+            int combo = board.getScore().getCombo();
+            int attack = GARBAGE_PER_CLEAR[Math.min(linesRemoved, GARBAGE_PER_CLEAR.length - 1)] + (combo - 1) / 2;
+            int left = incomingGarbage.offset(attack);
+            garbageCancelled += attack - left;
+            garbageSent += left;
+            outgoingGarbage.push(left);
+            return false;
+        }
+        int columns = board.getMetrics().getColumns();
+        int added = 0;
+        int lines;
+        while ((lines = incomingGarbage.poll(MAX_GARBAGE_PER_LOCK - added)) > 0) {
+            added += lines;
+            garbageReceived += lines;
+            if (board.addGarbageRows(lines, garbageHoles.nextInt(columns))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void newGame() {
+        recorder.onNewGame();
+        board.newGame();
+        gameOver = false;
+        bricksPlaced = 0;
+        garbageSent = 0;
+        garbageCancelled = 0;
+        garbageReceived = 0;
+        if (incomingGarbage != null) {
+            incomingGarbage.clear();
+        }
+        listener.onBackgroundChanged(board.getBoardMatrix(), board.getChangedFromRow(), board.getChangedToRow());
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getLinesCleared() {
+        return board.getScore().getLines();
+    }
+
+    public long getBricksPlaced() {
+        return bricksPlaced;
+    }
+
+    /**
+     * Garbage lines this game sent to the opponent, after cancelling.
+     */
+    public long getGarbageSent() {
+        return garbageSent;
+    }
+
+    /**
+     * Lines of attack spent cancelling garbage that was on its way to this board.
+     */
+    public long getGarbageCancelled() {
+        return garbageCancelled;
+    }
+
+    /**
+     * Garbage lines added to this board.
+     */
+    public long getGarbageReceived() {
+        return garbageReceived;
+    }
+}
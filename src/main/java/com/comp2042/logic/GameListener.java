@@ -0,0 +1,23 @@
+package com.comp2042.logic;
+
+import com.comp2042.ClearRow;
+
+public interface GameListener {
+
+    /**
+     * Called after a lock or a new game with the rows of the matrix that changed, inclusive.
+     */
+    void onBackgroundChanged(int[][] boardMatrix, int fromRow, int toRow);
+
+    /**
+     * Called when a lock removed at least one row, before {@link #onBackgroundChanged}.
+     */
+    void onRowsCleared(ClearRow clearRow);
+
+    /**
+     * Called when a new brick has no room to spawn. Listeners that publish
+     * {@link GameEngine#isGameOver()} with their state need not override it.
+     */
+    default void onGameOver() {
+    }
+}
@@ -0,0 +1,341 @@
+package com.comp2042.logic;
+
+import com.comp2042.Board;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.sim.MovePolicy;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@link GameEngine} at a fixed timestep on its own thread. Every tick applies the key
+ * presses queued in its {@link InputBuffer}, auto-repeats a held sideways key, then runs gravity at
+ * the speed of the current level, and locks a landed brick once it has rested for the lock delay.
+ * The engine still only sees {@link MoveEvent}s, so recorders and replays are unaffected. Once
+ * {@link #start()} is called only the loop thread may touch the engine; other threads talk to it
+ * through the input buffer, {@link #execute} and the setters.
+ * <p>A held left or right key moves once on the tick after its press, again after the delayed auto
+ * shift (DAS) and then every auto repeat rate (ARR) ticks, whatever the platform's key repeat is.
+ * <p>Autoplay plans each brick on the common pool, so a slow search never holds up a tick; the brick
+ * keeps falling meanwhile. Once the plan is ready the policy steers from wherever the brick is, and
+ * all of a tick's steering inputs are applied before that tick's gravity.
+ */
+public class GameLoop {
+
+    public static final long TICK_NANOS = 1_000_000_000L / 60;
+    public static final int LOCK_DELAY_TICKS = 30;
+    public static final int MAX_LOCK_RESETS = 15;
+    public static final int DEFAULT_DAS_TICKS = 10;
+    public static final int DEFAULT_ARR_TICKS = 2;
+    public static final int INPUT_CAPACITY = 64;
+
+    private static final double LEVEL_SPEEDUP = 0.85;
+    private static final int SOFT_DROP_FACTOR = 20;
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent[] USER_EVENTS = new MoveEvent[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            USER_EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final GameEngine engine;
+    private final Runnable onChange;
+    private final InputBuffer input = new InputBuffer(INPUT_CAPACITY);
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService scheduler;
+    private MovePolicy autoplay;
+    private boolean autoplayPlanned;
+    private boolean autoplayDropping;
+    private boolean planWanted;
+    private CompletableFuture<Void> planning;
+    private MovePolicy planningPolicy;
+    private long planningSpawn;
+    private long spawns;
+    private long brick = -1;
+    private int gravityCounter;
+    private int lockCounter;
+    private int lockResets;
+    private int dasTicks = DEFAULT_DAS_TICKS;
+    private int arrTicks = DEFAULT_ARR_TICKS;
+    private EventType shift;
+    private int shiftCounter;
+    private boolean softDropTapped;
+    private boolean changed;
+    private volatile Throwable failure;
+
+    /**
+     * @param onChange run on the loop thread at the end of every tick that changed the game
+     */
+    public GameLoop(GameEngine engine, Runnable onChange) {
+        this.engine = engine;
+        this.onChange = onChange;
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-loop");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::runTick, 0, TICK_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    public void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    //an exception would otherwise cancel the schedule without a trace, so the loop stops cleanly,
+    //hands it to the thread's uncaught exception handler and publishes the stopped game once more
+    private void runTick() {
+        try {
+            tick();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            scheduler.shutdown();
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            onChange.run();
+        }
+    }
+
+    /**
+     * Advances the game by one fixed step. Called by the scheduler, or directly when driving the
+     * loop without one.
+     */
+    public void tick() {
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+            changed = true;
+        }
+        if (engine.isGameOver()) {
+            input.clear();
+            shift = null;
+            softDropTapped = false;
+        } else {
+            if (brick != engine.getBricksPlaced()) {
+                onNewBrick();
+            }
+            updatePlanning();
+            EventType pressed;
+            while ((pressed = input.poll()) != null && !engine.isGameOver()) {
+                press(pressed);
+            }
+            if (!engine.isGameOver()) {
+                autoShift();
+            }
+            if (autoplayPlanned && !engine.isGameOver()) {
+                playAutoplay();
+            }
+            if (!engine.isGameOver()) {
+                gravity();
+            }
+        }
+        if (changed) {
+            changed = false;
+            onChange.run();
+        }
+    }
+
+    private void onNewBrick() {
+        brick = engine.getBricksPlaced();
+        gravityCounter = 0;
+        lockCounter = 0;
+        lockResets = 0;
+        autoplayDropping = false;
+        autoplayPlanned = false;
+        planWanted = autoplay != null;
+        spawns++;
+    }
+
+    //a plan finished for an earlier brick or policy is dropped, and one for the brick in play is started
+    private void updatePlanning() {
+        if (planning != null) {
+            if (!planning.isDone()) {
+                return;
+            }
+            planning.join();
+            planning = null;
+            autoplayPlanned = planningPolicy == autoplay && planningSpawn == spawns;
+        }
+        if (planWanted && autoplay != null) {
+            planWanted = false;
+            planningPolicy = autoplay;
+            planningSpawn = spawns;
+            planning = CompletableFuture.runAsync(autoplay.planBrick(engine.getBoard()));
+        }
+    }
+
+    private void press(EventType type) {
+        switch (type) {
+            case LEFT:
+            case RIGHT:
+                apply(USER_EVENTS[type.ordinal()]);
+                shift = type;
+                shiftCounter = 0;
+                break;
+            case DOWN:
+                softDropTapped = true;
+                break;
+            default:
+                apply(USER_EVENTS[type.ordinal()]);
+        }
+    }
+
+    private void autoShift() {
+        if (shift != null && !input.isHeld(shift)) {
+            EventType other = shift == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+            shift = input.isHeld(other) ? other : null;
+            shiftCounter = 0;
+        }
+        if (shift == null) {
+            return;
+        }
+        if (++shiftCounter <= dasTicks) {
+            return;
+        }
+        MoveEvent event = USER_EVENTS[shift.ordinal()];
+        if (arrTicks == 0) {
+            Board board = engine.getBoard();
+            int x;
+            do {
+                x = board.getBrickX();
+                apply(event);
+            } while (board.getBrickX() != x);
+        } else {
+            apply(event);
+            shiftCounter -= arrTicks;
+        }
+    }
+
+    //only a move that actually shifted or turned the grounded brick buys it more time
+    private void apply(MoveEvent event) {
+        Board board = engine.getBoard();
+        boolean grounded = board.getDropDistance() == 0;
+        int x = board.getBrickX();
+        BrickShape shape = board.getBrickShape();
+        engine.handle(event);
+        changed = true;
+        EventType type = event.getEventType();
+        if (grounded && type != EventType.DOWN && type != EventType.HARD_DROP && lockResets < MAX_LOCK_RESETS
+                && (board.getBrickX() != x || board.getBrickShape() != shape)) {
+            lockCounter = 0;
+            lockResets++;
+        }
+    }
+
+    //steers the brick all the way in one tick, so gravity cannot move it between inputs; a brick
+    //that is stuck gets another try after gravity has moved it
+    private void playAutoplay() {
+        EventType move;
+        while ((move = autoplay.nextMove(engine.getBoard())) != null && !engine.isGameOver()) {
+            if (move == EventType.DOWN) {
+                autoplayDropping = true;
+                return;
+            }
+            apply(USER_EVENTS[move.ordinal()]);
+        }
+    }
+
+    private void gravity() {
+        boolean dropping = softDropTapped || input.isHeld(EventType.DOWN) || autoplayDropping;
+        softDropTapped = false;
+        if (engine.getBoard().getDropDistance() > 0) {
+            lockCounter = 0;
+            int interval = gravityTicks(getLevel());
+            if (++gravityCounter >= (dropping ? Math.max(1, interval / SOFT_DROP_FACTOR) : interval)) {
+                gravityCounter = 0;
+                engine.handle(dropping ? SOFT_DROP : GRAVITY);
+                changed = true;
+            }
+        } else if (++lockCounter >= LOCK_DELAY_TICKS) {
+            engine.handle(GRAVITY);
+            changed = true;
+        }
+    }
+
+    static int gravityTicks(int level) {
+        double nanos = GameEngine.GRAVITY_MILLIS * 1_000_000.0 * Math.pow(LEVEL_SPEEDUP, level - 1);
+        return (int) Math.max(1, Math.round(nanos / TICK_NANOS));
+    }
+
+    /**
+     * Level 1 falls one row every {@link GameEngine#GRAVITY_MILLIS}; every
+     * {@link com.comp2042.Score#LINES_PER_LEVEL} lines cleared speeds gravity up.
+     */
+    public int getLevel() {
+        return engine.getScore().getLevel();
+    }
+
+    /**
+     * Where the UI thread reports key presses and releases of {@link EventType#LEFT},
+     * {@link EventType#RIGHT}, {@link EventType#ROTATE}, {@link EventType#HARD_DROP} and
+     * {@link EventType#DOWN} for soft drop.
+     */
+    public InputBuffer getInput() {
+        return input;
+    }
+
+    /**
+     * @return the exception that stopped the scheduled loop, or {@code null} while it runs
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public void execute(Runnable command) {
+        commands.add(command);
+    }
+
+    /**
+     * @param dasTicks ticks a sideways key must be held before it repeats, at least 1
+     * @param arrTicks ticks between repeats, or 0 to slide to the wall at once
+     */
+    public void setAutoRepeat(int dasTicks, int arrTicks) {
+        if (dasTicks < 1 || arrTicks < 0) {
+            throw new IllegalArgumentException("DAS must be at least 1 tick and ARR at least 0, got " + dasTicks + " and " + arrTicks);
+        }
+        execute(() -> {
+            this.dasTicks = dasTicks;
+            this.arrTicks = arrTicks;
+        });
+    }
+
+    /**
+     * Converts a duration to whole ticks, rounding to the nearest.
+     */
+    public static int toTicks(long millis) {
+        return (int) Math.round(millis * 1_000_000.0 / TICK_NANOS);
+    }
+
+    /**
+     * Lets the policy play from the next spawned brick on, or stops it when {@code null}.
+     */
+    public void setAutoplay(MovePolicy policy) {
+        execute(() -> {
+            autoplay = policy;
+            autoplayPlanned = false;
+            autoplayDropping = false;
+        });
+    }
+
+    public void newGame() {
+        execute(() -> {
+            engine.newGame();
+            brick = -1;
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.comp2042.logic;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Garbage lines sent to one player and not yet added to their board, kept as the batches they were
+ * sent in so each batch gets its own hole. The opponent pushes from its own thread while the owner
+ * cancels and takes lines on lock, so every method is thread-safe.
+ */
+public final class GarbageQueue {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int[] batches;
+    private int head;
+    private int size;
+    private int pending;
+
+    public GarbageQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity batches kept apart; beyond that new lines join the newest batch
+     */
+    public GarbageQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive, got " + capacity);
+        }
+        batches = new int[capacity];
+    }
+
+    public void push(int lines) {
+        if (lines <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (size == batches.length) {
+                batches[(head + size - 1) % batches.length] += lines;
+            } else {
+                batches[(head + size) % batches.length] = lines;
+                size++;
+            }
+            pending += lines;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels pending lines against an attack, oldest first.
+     *
+     * @return the part of the attack left over to send on
+     */
+    public int offset(int attack) {
+        lock.lock();
+        try {
+            while (attack > 0 && size > 0) {
+                int cancelled = Math.min(attack, batches[head]);
+                attack -= cancelled;
+                pending -= cancelled;
+                if ((batches[head] -= cancelled) == 0) {
+                    head = (head + 1) % batches.length;
+                    size--;
+                }
+            }
+            return attack;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes up to {@code max} lines from the oldest batch; the rest of it stays queued.
+     *
+     * @return the lines taken, 0 when nothing is pending
+     */
+    public int poll(int max) {
+        lock.lock();
+        try {
+            if (size == 0 || max <= 0) {
+                return 0;
+            }
+            int lines = Math.min(max, batches[head]);
+            pending -= lines;
+            if ((batches[head] -= lines) == 0) {
+                head = (head + 1) % batches.length;
+                size--;
+            }
+            return lines;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            head = 0;
+            size = 0;
+            pending = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.comp2042.logic;
+
+import com.comp2042.EventType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded ring of key presses from the UI thread to the loop thread, plus the set of keys held down
+ * right now. Presses are queued so a tap shorter than a tick still counts once; holding is read as
+ * state, so a release can never be lost to a full buffer. A press of a key that is already held is
+ * dropped, which filters out the platform's own key repeat.
+ * <p>Exactly one thread may call {@link #press} and {@link #release}, and exactly one other thread
+ * {@link #poll} and {@link #clear}.
+ */
+public final class InputBuffer {
+
+    private static final EventType[] TYPES = EventType.values();
+
+    private final byte[] ring;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile int held;
+    private long dropped;
+
+    /**
+     * @param capacity number of presses that can wait for a tick, rounded up to a power of two
+     */
+    public InputBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 16) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^16, got " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        ring = new byte[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @return whether the press was queued; {@code false} for a repeat of a held key or a full buffer
+     */
+    public boolean press(EventType type) {
+        int bit = 1 << type.ordinal();
+        if ((held & bit) != 0) {
+            return false;
+        }
+        held |= bit;
+        long t = tail.get();
+        if (t - head.get() == ring.length) {
+            dropped++;
+            return false;
+        }
+        ring[(int) t & mask] = (byte) type.ordinal();
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    public void release(EventType type) {
+        held &= ~(1 << type.ordinal());
+    }
+
+    public boolean isHeld(EventType type) {
+        return (held & 1 << type.ordinal()) != 0;
+    }
+
+    /**
+     * @return the oldest queued press, or {@code null} when there is none
+     */
+    public EventType poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return null;
+        }
+        EventType type = TYPES[ring[(int) h & mask]];
+        head.lazySet(h + 1);
+        return type;
+    }
+
+    /**
+     * Discards the queued presses; keys stay held.
+     */
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+
+    /**
+     * Presses lost to a full buffer; read it from the pressing thread.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+}
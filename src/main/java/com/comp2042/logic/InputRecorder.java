@@ -0,0 +1,13 @@
+package com.comp2042.logic;
+
+import com.comp2042.MoveEvent;
+
+/**
+ * Receives every input a {@link GameEngine} applies, in order, for example to write a replay.
+ */
+public interface InputRecorder {
+
+    void onInput(MoveEvent event);
+
+    void onNewGame();
+}
@@ -0,0 +1,53 @@
+package com.comp2042.logic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free handoff of the latest value from one writer thread to one reader thread through three
+ * preallocated buffers. The writer fills its back buffer and publishes it by swapping it with the
+ * middle one; the reader swaps its front buffer with the middle one only when something new was
+ * published. Neither side ever waits or copies, and each owns its buffer exclusively until its next
+ * swap.
+ */
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back;
+    private int front = 2;
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Writer side: the buffer to fill before the next {@link #publish()}. It holds whatever was
+     * written to it two publishes ago, not the latest state.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Reader side: the most recently published buffer, or the previous one again when nothing new
+     * was published since the last call.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
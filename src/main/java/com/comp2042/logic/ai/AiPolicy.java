@@ -0,0 +1,126 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.Board;
+import com.comp2042.EventType;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.sim.MovePolicy;
+
+/**
+ * Plays by running a {@link PlacementSearch}, or a {@link ParallelLookaheadSearch} over the whole
+ * preview queue, once per spawned brick and then steering the brick to the chosen placement,
+ * followed by soft drops until the brick locks. Every input is chosen from where the brick is now
+ * rather than replayed from a fixed list, so gravity or other inputs landing in between do not
+ * throw it off.
+ */
+public class AiPolicy implements MovePolicy {
+
+    private final PlacementSearch search;
+    private final boolean usePreview;
+    private final ParallelLookaheadSearch lookahead;
+    private final long budgetNanos;
+    private Brick[] preview;
+    private BoardState state;
+    private Placement target;
+    private BrickShape lastShape;
+    private int lastX;
+    private EventType lastMove;
+
+    public AiPolicy(Heuristic heuristic, boolean usePreview) {
+        search = new PlacementSearch(heuristic);
+        this.usePreview = usePreview;
+        lookahead = null;
+        budgetNanos = 0;
+    }
+
+    public AiPolicy(ParallelLookaheadSearch lookahead, long budgetNanos) {
+        search = null;
+        usePreview = true;
+        this.lookahead = lookahead;
+        this.budgetNanos = budgetNanos;
+    }
+
+    @Override
+    public void onBrickSpawned(Board board) {
+        planBrick(board).run();
+    }
+
+    @Override
+    public Runnable planBrick(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        if (state == null || state.getRows() != matrix.length || state.getColumns() != matrix[0].length) {
+            state = BoardState.of(matrix);
+        } else {
+            state.load(matrix);
+        }
+        ViewData view = board.getViewData();
+        Brick current = board.getCurrentBrick();
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        target = null;
+        lastShape = null;
+        if (lookahead != null) {
+            Brick[] queue = loadPreview(board);
+            return () -> target = lookahead.findBest(state, current, x, y, queue, budgetNanos);
+        }
+        Brick next = usePreview ? board.getNextBrick() : null;
+        return () -> target = search.findBest(state, current, x, y, next);
+    }
+
+    private Brick[] loadPreview(Board board) {
+        if (preview == null || preview.length != board.getPreviewSize()) {
+            preview = new Brick[board.getPreviewSize()];
+        }
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = board.peekBrick(i);
+        }
+        return preview;
+    }
+
+    /**
+     * @return the next rotation or shift towards the planned placement, {@code DOWN} once the brick
+     * is above it, or {@code null} when the brick is stuck, so gravity runs before it is tried again
+     */
+    @Override
+    public EventType nextMove(Board board) {
+        if (target == null) {
+            return EventType.DOWN;
+        }
+        BrickShape shape = board.getBrickShape();
+        int x = board.getBrickX();
+        boolean blocked = shape == lastShape && x == lastX;
+        EventType shift = x == target.getX() ? null : x < target.getX() ? EventType.RIGHT : EventType.LEFT;
+        EventType move;
+        if (shape != board.getCurrentBrick().getShapes().get(target.getRotation())
+                && !(blocked && lastMove == EventType.ROTATE)) {
+            move = EventType.ROTATE;
+        } else if (shift != null && !(blocked && lastMove == shift)) {
+            //a rotation blocked by a wall or the stack may fit once the brick has moved over
+            move = shift;
+        } else if (blocked) {
+            lastShape = null;
+            return null;
+        } else {
+            return EventType.DOWN;
+        }
+        lastShape = shape;
+        lastX = x;
+        lastMove = move;
+        return move;
+    }
+
+    /**
+     * @return the single brick search, or {@code null} when this policy uses the lookahead search
+     */
+    public PlacementSearch getSearch() {
+        return search;
+    }
+
+    /**
+     * @return the lookahead search, or {@code null} when this policy uses the single brick search
+     */
+    public ParallelLookaheadSearch getLookahead() {
+        return lookahead;
+    }
+}
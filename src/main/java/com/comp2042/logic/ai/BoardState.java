@@ -0,0 +1,176 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.RowMasks;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Occupancy-only copy of a board, one {@code long} mask per row (bit {@code j} is column {@code j}),
+ * plus the highest filled row of every column and the number of filled cells. Those let drops,
+ * heights and holes be read without scanning the rows. Cheap to copy, so searches can branch on it
+ * freely.
+ */
+public final class BoardState {
+
+    private final int rows;
+    private final int columns;
+    private final long fullRow;
+    private final long[] masks;
+    private final int[] tops;
+    private int cells;
+
+    public BoardState(int rows, int columns) {
+        if (columns > RowMasks.MAX_COLUMNS) {
+            throw new IllegalArgumentException("BoardState supports at most " + RowMasks.MAX_COLUMNS + " columns, got " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        fullRow = (1L << columns) - 1;
+        masks = new long[rows];
+        tops = new int[columns];
+        Arrays.fill(tops, rows);
+    }
+
+    public static BoardState of(int[][] matrix) {
+        BoardState state = new BoardState(matrix.length, matrix[0].length);
+        state.load(matrix);
+        return state;
+    }
+
+    public void load(int[][] matrix) {
+        cells = 0;
+        for (int i = 0; i < rows; i++) {
+            long mask = 0;
+            for (int j = 0; j < columns; j++) {
+                if (matrix[i][j] != 0) {
+                    mask |= 1L << j;
+                }
+            }
+            masks[i] = mask;
+            cells += Long.bitCount(mask);
+        }
+        Arrays.fill(tops, 0);
+        settleTops();
+    }
+
+    //cells only ever move down between calls, so each scan can start from the old top
+    private void settleTops() {
+        for (int j = 0; j < columns; j++) {
+            int top = tops[j];
+            while (top < rows && (masks[top] & 1L << j) == 0) {
+                top++;
+            }
+            tops[j] = top;
+        }
+    }
+
+    public void copyFrom(BoardState other) {
+        System.arraycopy(other.masks, 0, masks, 0, rows);
+        System.arraycopy(other.tops, 0, tops, 0, columns);
+        cells = other.cells;
+    }
+
+    public BoardState copy() {
+        BoardState copy = new BoardState(rows, columns);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    public boolean fits(BrickShape shape, int x, int y) {
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            long mask = shape.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows) {
+                return false;
+            }
+            long shifted = RowMasks.shift(mask, x);
+            if (shifted == -1L || (shifted & ~fullRow) != 0 || (shifted & masks[row]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int dropY(BrickShape shape, int x, int y) {
+        int distance = shape.getDropDistance(tops, x, y);
+        if (distance >= 0) {
+            return y + distance;
+        }
+        while (fits(shape, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Locks the shape at the given position and removes full rows.
+     *
+     * @return the number of rows cleared
+     */
+    public int place(BrickShape shape, int x, int y) {
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            masks[y + i] |= RowMasks.shift(shape.getRowMask(i), x);
+        }
+        shape.stackOnto(tops, x, y);
+        cells += shape.getCellCount();
+        int cleared = 0;
+        for (int i = y + shape.getMaxRow(); i >= 0; i--) {
+            if (masks[i] == fullRow) {
+                cleared++;
+            } else if (cleared > 0) {
+                masks[i + cleared] = masks[i];
+            }
+        }
+        Arrays.fill(masks, 0, cleared, 0L);
+        if (cleared > 0) {
+            cells -= cleared * columns;
+            settleTops();
+        }
+        return cleared;
+    }
+
+    public long getRow(int row) {
+        return masks[row];
+    }
+
+    public int getColumnHeight(int column) {
+        return rows - tops[column];
+    }
+
+    /**
+     * Empty cells below their column's surface: every cell under a surface is either filled or one.
+     */
+    public int getHoleCount() {
+        int aggregateHeight = 0;
+        for (int j = 0; j < columns; j++) {
+            aggregateHeight += rows - tops[j];
+        }
+        return aggregateHeight - cells;
+    }
+
+    public int getCellCount() {
+        return cells;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BoardState && Arrays.equals(masks, ((BoardState) o).masks);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(masks);
+    }
+}
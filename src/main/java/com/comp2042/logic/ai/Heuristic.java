@@ -0,0 +1,57 @@
+package com.comp2042.logic.ai;
+
+/**
+ * Linear evaluation of a board after a placement. Higher is better, so the height, hole and
+ * bumpiness weights are normally negative.
+ */
+public final class Heuristic {
+
+    public static final Heuristic DEFAULT = new Heuristic(-0.510066, -0.35663, -0.184483, 0.760666);
+
+    private final double heightWeight;
+    private final double holeWeight;
+    private final double bumpinessWeight;
+    private final double lineWeight;
+
+    public Heuristic(double heightWeight, double holeWeight, double bumpinessWeight, double lineWeight) {
+        this.heightWeight = heightWeight;
+        this.holeWeight = holeWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.lineWeight = lineWeight;
+    }
+
+    public double evaluate(BoardState state, int linesCleared) {
+        int columns = state.getColumns();
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int previous = 0;
+        for (int j = 0; j < columns; j++) {
+            int height = state.getColumnHeight(j);
+            aggregateHeight += height;
+            if (j > 0) {
+                bumpiness += Math.abs(height - previous);
+            }
+            previous = height;
+        }
+        return heightWeight * aggregateHeight
+                + holeWeight * (aggregateHeight - state.getCellCount())
+                + bumpinessWeight * bumpiness
+                + lineWeight * linesCleared;
+    }
+
+    public double getHeightWeight() {
+        return heightWeight;
+    }
+
+    public double getHoleWeight() {
+        return holeWeight;
+    }
+
+    public double getBumpinessWeight() {
+        return bumpinessWeight;
+    }
+
+    public double getLineWeight() {
+        return lineWeight;
+    }
+}
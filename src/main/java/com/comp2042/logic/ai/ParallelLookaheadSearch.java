@@ -0,0 +1,239 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multi-ply placement search over the preview queue. The placements of the current brick are split
+ * across a {@link ForkJoinPool}, each subtree searched on its own scratch boards. Depth grows one
+ * preview brick at a time until the queue is exhausted or the time budget runs out; an unfinished
+ * depth is thrown away, so the answer always comes from the deepest complete search.
+ * <p>With a {@link TranspositionTable} the best score below every inner node is cached under the
+ * board, the bricks still to place in order and the spawn point, which is everything the score
+ * depends on besides the heuristic. Positions reached through different placement orders, the
+ * shallower passes of the next move and concurrent searches sharing the table then reuse each
+ * other's work; searches sharing a table must use the same heuristic.
+ */
+public class ParallelLookaheadSearch {
+
+    private static final int DEADLINE_CHECK_MASK = 255;
+
+    private final Heuristic heuristic;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private volatile SearchStats lastStats = SearchStats.NONE;
+
+    public ParallelLookaheadSearch(Heuristic heuristic) {
+        this(heuristic, ForkJoinPool.commonPool(), null);
+    }
+
+    /**
+     * @param table cache for subtree scores, or {@code null} to search without one
+     */
+    public ParallelLookaheadSearch(Heuristic heuristic, ForkJoinPool pool, TranspositionTable table) {
+        this.heuristic = heuristic;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * @param preview upcoming bricks in order; may be empty
+     * @return the best placement, or {@code null} when the brick cannot move at all
+     */
+    public Placement findBest(BoardState board, Brick current, int spawnX, int spawnY, Brick[] preview, long budgetNanos) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        ZobristHash zobrist = table == null ? null : new ZobristHash(board.getRows(), board.getColumns());
+        List<Root> roots = new ArrayList<>();
+        List<BrickShape> shapes = current.getShapes();
+        for (int rotation = 0; rotation < shapes.size(); rotation++) {
+            BrickShape shape = shapes.get(rotation);
+            if (!board.fits(shape, spawnX, spawnY)) {
+                break;
+            }
+            for (int direction = -1; direction <= 1; direction += 2) {
+                for (int x = direction < 0 ? spawnX : spawnX + 1; board.fits(shape, x, spawnY); x += direction) {
+                    BoardState after = board.copy();
+                    int y = board.dropY(shape, x, spawnY);
+                    int lines = after.place(shape, x, y);
+                    roots.add(new Root(rotation, x, y, lines, after, heuristic.evaluate(after, lines)));
+                }
+            }
+        }
+        if (roots.isEmpty()) {
+            lastStats = new SearchStats(0, 0, System.nanoTime() - start, false);
+            return null;
+        }
+
+        long nodes = roots.size();
+        int depth = 1;
+        Root best = best(roots);
+        boolean timedOut = false;
+        while (depth <= preview.length) {
+            if (System.nanoTime() - deadline >= 0) {
+                timedOut = true;
+                break;
+            }
+            pool.invoke(new RootRange(roots, 0, roots.size(), preview, depth, spawnX, spawnY, deadline,
+                    zobrist, queueKeys(zobrist, preview, depth, spawnX, spawnY)));
+            for (Root root : roots) {
+                nodes += root.nodes;
+                timedOut |= root.aborted;
+            }
+            if (timedOut) {
+                break;
+            }
+            for (Root root : roots) {
+                root.score = root.pending;
+            }
+            depth++;
+            best = best(roots);
+        }
+        lastStats = new SearchStats(depth, nodes, System.nanoTime() - start, timedOut);
+        return new Placement(best.rotation, best.x, best.y, spawnX, best.lines, best.score);
+    }
+
+    //per ply, the key of the bricks left to place from there and the spawn point they are placed from
+    private static long[] queueKeys(ZobristHash zobrist, Brick[] preview, int plies, int spawnX, int spawnY) {
+        if (zobrist == null) {
+            return null;
+        }
+        long[] keys = new long[plies];
+        for (int ply = 0; ply < plies; ply++) {
+            keys[ply] = zobrist.queueKey(preview, ply, plies) ^ zobrist.spawnKey(spawnX, spawnY);
+        }
+        return keys;
+    }
+
+    //first strict maximum in enumeration order, so the answer does not depend on thread timing
+    private static Root best(List<Root> roots) {
+        Root best = roots.get(0);
+        for (Root root : roots) {
+            if (root.score > best.score) {
+                best = root;
+            }
+        }
+        return best;
+    }
+
+    public SearchStats getLastStats() {
+        return lastStats;
+    }
+
+    private static final class Root {
+
+        private final int rotation;
+        private final int x;
+        private final int y;
+        private final int lines;
+        private final BoardState after;
+        private double score;
+        private double pending;
+        private long nodes;
+        private boolean aborted;
+
+        private Root(int rotation, int x, int y, int lines, BoardState after, double score) {
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.lines = lines;
+            this.after = after;
+            this.score = score;
+        }
+    }
+
+    //ForkJoinTask is Serializable, but these tasks never leave the pool, so their state is transient
+    private final class RootRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Root> roots;
+        private final int from;
+        private final int to;
+        private final transient Brick[] preview;
+        private final int plies;
+        private final int spawnX;
+        private final int spawnY;
+        private final long deadline;
+        private final transient ZobristHash zobrist;
+        private final long[] queueKeys;
+        private transient BoardState[] scratch;
+        private long nodes;
+        private boolean aborted;
+
+        private RootRange(List<Root> roots, int from, int to, Brick[] preview, int plies, int spawnX, int spawnY, long deadline,
+                          ZobristHash zobrist, long[] queueKeys) {
+            this.roots = roots;
+            this.from = from;
+            this.to = to;
+            this.preview = preview;
+            this.plies = plies;
+            this.spawnX = spawnX;
+            this.spawnY = spawnY;
+            this.deadline = deadline;
+            this.zobrist = zobrist;
+            this.queueKeys = queueKeys;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RootRange(roots, from, mid, preview, plies, spawnX, spawnY, deadline, zobrist, queueKeys),
+                        new RootRange(roots, mid, to, preview, plies, spawnX, spawnY, deadline, zobrist, queueKeys));
+                return;
+            }
+            Root root = roots.get(from);
+            scratch = new BoardState[plies];
+            for (int i = 0; i < plies; i++) {
+                scratch[i] = new BoardState(root.after.getRows(), root.after.getColumns());
+            }
+            root.pending = heuristic.getLineWeight() * root.lines + search(root.after, 0);
+            root.nodes = nodes;
+            root.aborted = aborted;
+        }
+
+        //scores exclude lines cleared above this node, so a cached value fits any path to the board
+        private double search(BoardState board, int ply) {
+            long key = 0;
+            if (table != null) {
+                key = zobrist.hash(board) ^ queueKeys[ply];
+                double cached = table.get(key);
+                if (!Double.isNaN(cached)) {
+                    return cached;
+                }
+            }
+            double best = Double.NEGATIVE_INFINITY;
+            BoardState next = scratch[ply];
+            List<BrickShape> shapes = preview[ply].getShapes();
+            for (int rotation = 0; rotation < shapes.size(); rotation++) {
+                BrickShape shape = shapes.get(rotation);
+                if (!board.fits(shape, spawnX, spawnY)) {
+                    break;
+                }
+                for (int direction = -1; direction <= 1; direction += 2) {
+                    for (int x = direction < 0 ? spawnX : spawnX + 1; board.fits(shape, x, spawnY); x += direction) {
+                        if (aborted || ((++nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadline >= 0)) {
+                            aborted = true;
+                            return best;
+                        }
+                        next.copyFrom(board);
+                        int lines = next.place(shape, x, board.dropY(shape, x, spawnY));
+                        best = Math.max(best, ply + 1 == plies
+                                ? heuristic.evaluate(next, lines)
+                                : heuristic.getLineWeight() * lines + search(next, ply + 1));
+                    }
+                }
+            }
+            if (table != null && !aborted) {
+                table.put(key, best);
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.EventType;
+
+/**
+ * A final resting position for a brick, reached from the spawn point by rotating first, then
+ * shifting sideways, then dropping straight down.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int startX;
+    private final int linesCleared;
+    private final double score;
+
+    public Placement(int rotation, int x, int y, int startX, int linesCleared, double score) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.startX = startX;
+        this.linesCleared = linesCleared;
+        this.score = score;
+    }
+
+    /**
+     * Rotations and sideways moves that bring the brick above its landing spot. The caller drops it.
+     */
+    public EventType[] getInputs() {
+        int shift = Math.abs(x - startX);
+        EventType[] inputs = new EventType[rotation + shift];
+        for (int i = 0; i < rotation; i++) {
+            inputs[i] = EventType.ROTATE;
+        }
+        EventType direction = x < startX ? EventType.LEFT : EventType.RIGHT;
+        for (int i = 0; i < shift; i++) {
+            inputs[rotation + i] = direction;
+        }
+        return inputs;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
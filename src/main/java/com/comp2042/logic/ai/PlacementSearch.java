@@ -0,0 +1,88 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.List;
+
+/**
+ * Enumerates every placement reachable by rotate, shift and drop from the spawn point and picks the
+ * one the {@link Heuristic} likes best, optionally looking one preview brick ahead. Instances reuse
+ * scratch boards and are not thread-safe; use one per thread.
+ */
+public class PlacementSearch {
+
+    private final Heuristic heuristic;
+    private BoardState afterFirst;
+    private BoardState afterSecond;
+    private long evaluations;
+
+    public PlacementSearch(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * @param next the preview brick to look ahead with, or {@code null} for a one brick search
+     * @return the best placement, or {@code null} when the brick cannot move at all
+     */
+    public Placement findBest(BoardState board, Brick current, int spawnX, int spawnY, Brick next) {
+        ensureScratch(board);
+        Placement best = null;
+        List<BrickShape> shapes = current.getShapes();
+        for (int rotation = 0; rotation < shapes.size(); rotation++) {
+            BrickShape shape = shapes.get(rotation);
+            if (!board.fits(shape, spawnX, spawnY)) {
+                break;
+            }
+            for (int direction = -1; direction <= 1; direction += 2) {
+                for (int x = direction < 0 ? spawnX : spawnX + 1; board.fits(shape, x, spawnY); x += direction) {
+                    int y = board.dropY(shape, x, spawnY);
+                    afterFirst.copyFrom(board);
+                    int lines = afterFirst.place(shape, x, y);
+                    double score = next == null
+                            ? evaluate(afterFirst, lines)
+                            : bestScore(afterFirst, next, spawnX, spawnY, lines);
+                    if (best == null || score > best.getScore()) {
+                        best = new Placement(rotation, x, y, spawnX, lines, score);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private double bestScore(BoardState board, Brick brick, int spawnX, int spawnY, int linesSoFar) {
+        double best = Double.NEGATIVE_INFINITY;
+        List<BrickShape> shapes = brick.getShapes();
+        for (int rotation = 0; rotation < shapes.size(); rotation++) {
+            BrickShape shape = shapes.get(rotation);
+            if (!board.fits(shape, spawnX, spawnY)) {
+                break;
+            }
+            for (int direction = -1; direction <= 1; direction += 2) {
+                for (int x = direction < 0 ? spawnX : spawnX + 1; board.fits(shape, x, spawnY); x += direction) {
+                    afterSecond.copyFrom(board);
+                    int lines = afterSecond.place(shape, x, board.dropY(shape, x, spawnY));
+                    best = Math.max(best, evaluate(afterSecond, linesSoFar + lines));
+                }
+            }
+        }
+        return best;
+    }
+
+    private double evaluate(BoardState state, int linesCleared) {
+        evaluations++;
+        return heuristic.evaluate(state, linesCleared);
+    }
+
+    private void ensureScratch(BoardState board) {
+        if (afterFirst == null || afterFirst.getRows() != board.getRows() || afterFirst.getColumns() != board.getColumns()) {
+            afterFirst = new BoardState(board.getRows(), board.getColumns());
+            afterSecond = new BoardState(board.getRows(), board.getColumns());
+        }
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.logic.ai;
+
+/**
+ * What one {@link ParallelLookaheadSearch} call managed within its time budget.
+ */
+public final class SearchStats {
+
+    static final SearchStats NONE = new SearchStats(0, 0, 0, false);
+
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final boolean timedOut;
+
+    SearchStats(int depth, long nodes, long elapsedNanos, boolean timedOut) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Number of bricks placed along the deepest fully searched line, current brick included.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * True when the budget ran out before every preview brick could be searched.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("depth=%d%s nodes=%d in %.2f ms (%.0f nodes/s)",
+                depth, timedOut ? " (timed out)" : "", nodes, elapsedNanos / 1_000_000.0, getNodesPerSecond());
+    }
+}
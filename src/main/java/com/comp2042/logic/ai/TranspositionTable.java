@@ -0,0 +1,99 @@
+package com.comp2042.logic.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free cache of search scores keyed by 64-bit hashes, safe to share between
+ * threads. Each slot holds {@code key ^ value} next to {@code value}; a reader accepts a slot only
+ * when the two still xor back to its key, so a slot torn by a concurrent writer reads as a miss
+ * instead of a wrong score. A store always replaces whatever occupied its slot.
+ */
+public final class TranspositionTable {
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    /**
+     * @param capacity number of entries, rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 29) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^29, got " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        slots = new AtomicLongArray(size * 2);
+        mask = size - 1;
+    }
+
+    /**
+     * @return the cached score, or {@code NaN} on a miss
+     */
+    public double get(long key) {
+        int index = index(key);
+        long check = slots.getOpaque(index);
+        long value = slots.getOpaque(index + 1);
+        if ((check ^ value) == key && (check | value) != 0) {
+            hits.increment();
+            return Double.longBitsToDouble(value);
+        }
+        misses.increment();
+        return Double.NaN;
+    }
+
+    public void put(long key, double score) {
+        int index = index(key);
+        long value = Double.doubleToRawLongBits(score);
+        slots.setOpaque(index, key ^ value);
+        slots.setOpaque(index + 1, value);
+        stores.increment();
+    }
+
+    //Zobrist keys are already uniformly random, so the low bits index directly
+    private int index(long key) {
+        return ((int) key & mask) << 1;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setOpaque(i, 0L);
+        }
+        hits.reset();
+        misses.reset();
+        stores.reset();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public double getHitRate() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return total == 0 ? 0 : hit / (double) total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("capacity=%d hits=%d misses=%d (%.1f%% hit) stores=%d",
+                getCapacity(), getHits(), getMisses(), getHitRate() * 100, getStores());
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.SplitMix64;
+
+/**
+ * Zobrist keys for board occupancy, the brick about to be placed and the remaining search depth.
+ * Keys come from a fixed seed, so every instance for the same board size hashes identically and
+ * tables keyed by it can be shared between searches and threads.
+ */
+public final class ZobristHash {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long PIECE_SALT = 0x243F6A8885A308D3L;
+    private static final long DEPTH_SALT = 0x13198A2E03707344L;
+    private static final long SPAWN_SALT = 0xA4093822299F31D0L;
+
+    private final int rows;
+    private final int columns;
+    private final long[] cellKeys;
+
+    public ZobristHash(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        cellKeys = new long[rows * columns];
+        SplitMix64 random = new SplitMix64(SEED);
+        for (int i = 0; i < cellKeys.length; i++) {
+            cellKeys[i] = random.nextLong();
+        }
+    }
+
+    public long hash(BoardState state) {
+        long hash = 0;
+        for (int i = 0; i < rows; i++) {
+            long row = state.getRow(i);
+            int base = i * columns;
+            while (row != 0) {
+                hash ^= cellKeys[base + Long.numberOfTrailingZeros(row)];
+                row &= row - 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a color matrix such as a board's background or one built by {@code MatrixOperations.merge};
+     * only occupancy counts, so it agrees with {@link #hash(BoardState)}.
+     */
+    public long hash(int[][] matrix) {
+        long hash = 0;
+        for (int i = 0; i < rows; i++) {
+            int base = i * columns;
+            for (int j = 0; j < columns; j++) {
+                if (matrix[i][j] != 0) {
+                    hash ^= cellKeys[base + j];
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Bricks are told apart by color, which is unique per brick type.
+     */
+    public long pieceKey(Brick brick, int rotation) {
+        return SplitMix64.mix(PIECE_SALT + brick.getShapes().get(rotation).getColor() * 8L + rotation);
+    }
+
+    public long depthKey(int depth) {
+        return SplitMix64.mix(DEPTH_SALT + depth);
+    }
+
+    /**
+     * Key for the bricks still to place, {@code queue[from]} up to {@code queue[to - 1]} in that
+     * order. The length of the range is the depth left, so it is covered too.
+     */
+    public long queueKey(Brick[] queue, int from, int to) {
+        long key = depthKey(to - from);
+        for (int i = from; i < to; i++) {
+            key = SplitMix64.mix(key ^ pieceKey(queue[i], 0));
+        }
+        return key;
+    }
+
+    public long spawnKey(int x, int y) {
+        return SplitMix64.mix(SPAWN_SALT + ((long) x << 32) + (y & 0xFFFFFFFFL));
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Deals every brick once per shuffled bag of seven, which bounds droughts and floods of one type.
+ */
+public class BagBrickGenerator extends QueuedBrickGenerator {
+
+    private final Brick[] bag = Bricks.ALL.toArray(new Brick[0]);
+    private int next = bag.length;
+
+    public BagBrickGenerator(long seed) {
+        this(seed, 1);
+    }
+
+    public BagBrickGenerator(long seed, int previewSize) {
+        super(seed, previewSize);
+    }
+
+    @Override
+    protected Brick generate() {
+        if (next == bag.length) {
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Brick tmp = bag[i];
+                bag[i] = bag[j];
+                bag[j] = tmp;
+            }
+            next = 0;
+        }
+        return bag[next++];
+    }
+}
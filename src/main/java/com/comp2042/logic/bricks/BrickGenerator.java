@@ -5,4 +5,15 @@ public interface BrickGenerator {
     Brick getBrick();
 
     Brick getNextBrick();
+
+    default Brick peekBrick(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("preview index " + index + " out of " + getPreviewSize());
+        }
+        return getNextBrick();
+    }
+
+    default int getPreviewSize() {
+        return 1;
+    }
 }
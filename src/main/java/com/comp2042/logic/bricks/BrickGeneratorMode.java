@@ -0,0 +1,18 @@
+package com.comp2042.logic.bricks;
+
+public enum BrickGeneratorMode {
+    UNIFORM {
+        @Override
+        public BrickGenerator create(long seed, int previewSize) {
+            return new RandomBrickGenerator(seed, previewSize);
+        }
+    },
+    BAG {
+        @Override
+        public BrickGenerator create(long seed, int previewSize) {
+            return new BagBrickGenerator(seed, previewSize);
+        }
+    };
+
+    public abstract BrickGenerator create(long seed, int previewSize);
+}
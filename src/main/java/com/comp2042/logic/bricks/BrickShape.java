@@ -0,0 +1,178 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One precomputed rotation state of a brick. Instances are built once per brick type and shared, so
+ * the matrix returned by {@link #getMatrix()} must be treated as read-only.
+ */
+public final class BrickShape {
+
+    private final int[][] matrix;
+    private final int color;
+    private final long[] rowMasks;
+    private final int[] cellRows;
+    private final int[] cellColumns;
+    private final int[] skirt;
+    private final int[] columnTops;
+    private final int minRow;
+    private final int maxRow;
+    private final int minColumn;
+    private final int maxColumn;
+
+    private BrickShape(int[][] matrix) {
+        this.matrix = matrix;
+        int columns = matrix[0].length;
+        rowMasks = new long[matrix.length];
+        skirt = new int[columns];
+        columnTops = new int[columns];
+        Arrays.fill(skirt, -1);
+        Arrays.fill(columnTops, -1);
+
+        int count = 0;
+        int shapeColor = 0;
+        int top = Integer.MAX_VALUE;
+        int bottom = -1;
+        int left = Integer.MAX_VALUE;
+        int right = -1;
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    count++;
+                    shapeColor = matrix[i][j];
+                    rowMasks[i] |= 1L << j;
+                    if (columnTops[j] < 0) {
+                        columnTops[j] = i;
+                    }
+                    skirt[j] = i;
+                    top = Math.min(top, i);
+                    bottom = Math.max(bottom, i);
+                    left = Math.min(left, j);
+                    right = Math.max(right, j);
+                }
+            }
+        }
+        cellRows = new int[count];
+        cellColumns = new int[count];
+        int k = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    cellRows[k] = i;
+                    cellColumns[k] = j;
+                    k++;
+                }
+            }
+        }
+        color = shapeColor;
+        minRow = top;
+        maxRow = bottom;
+        minColumn = left;
+        maxColumn = right;
+    }
+
+    static List<BrickShape> rotations(int[][]... matrices) {
+        BrickShape[] shapes = new BrickShape[matrices.length];
+        for (int i = 0; i < matrices.length; i++) {
+            shapes[i] = new BrickShape(matrices[i]);
+        }
+        return List.of(shapes);
+    }
+
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public int getRowCount() {
+        return rowMasks.length;
+    }
+
+    public int getColumnCount() {
+        return skirt.length;
+    }
+
+    public long getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    public int getCellRow(int cell) {
+        return cellRows[cell];
+    }
+
+    public int getCellColumn(int cell) {
+        return cellColumns[cell];
+    }
+
+    /**
+     * Lowest filled row of the given shape column, or -1 when the column is empty.
+     */
+    public int getSkirt(int column) {
+        return skirt[column];
+    }
+
+    /**
+     * Highest filled row of the given shape column, or -1 when the column is empty.
+     */
+    public int getColumnTop(int column) {
+        return columnTops[column];
+    }
+
+    /**
+     * Rows this shape at {@code (x, y)} can fall, given the highest filled row of every board column
+     * ({@code rows} for an empty one). Each shape column falls until its skirt rests on that
+     * column's surface. Only valid while the whole shape is above the surface.
+     *
+     * @return the drop distance, or -1 when some shape column already reaches below its surface, as
+     * under an overhang, and the caller has to test row by row instead
+     */
+    public int getDropDistance(int[] columnTops, int x, int y) {
+        int distance = Integer.MAX_VALUE;
+        for (int j = minColumn; j <= maxColumn; j++) {
+            if (skirt[j] < 0) {
+                continue;
+            }
+            int gap = columnTops[x + j] - (y + skirt[j]) - 1;
+            if (gap < 0) {
+                return -1;
+            }
+            distance = Math.min(distance, gap);
+        }
+        return distance;
+    }
+
+    /**
+     * Raises the surface in {@code columnTops} over this shape locked at {@code (x, y)}.
+     */
+    public void stackOnto(int[] columnTops, int x, int y) {
+        for (int j = minColumn; j <= maxColumn; j++) {
+            if (this.columnTops[j] >= 0) {
+                columnTops[x + j] = Math.min(columnTops[x + j], y + this.columnTops[j]);
+            }
+        }
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+}
@@ -0,0 +1,19 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+final class Bricks {
+
+    static final List<Brick> ALL = List.of(
+            new IBrick(),
+            new JBrick(),
+            new LBrick(),
+            new OBrick(),
+            new SBrick(),
+            new TBrick(),
+            new ZBrick());
+
+    private Bricks() {
+
+    }
+}
@@ -1,43 +1,37 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class LBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public LBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 3},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 3, 0},
-                {0, 0, 3, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    private static final List<BrickShape> SHAPES = BrickShape.rotations(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 3},
+                    {0, 3, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 3, 0},
+                    {0, 0, 3, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 0, 3, 0},
+                    {3, 3, 3, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 0, 0}
+            });
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public List<BrickShape> getShapes() {
+        return SHAPES;
     }
 }
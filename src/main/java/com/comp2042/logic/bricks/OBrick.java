@@ -1,26 +1,19 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    private static final List<BrickShape> SHAPES = BrickShape.rotations(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            });
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public List<BrickShape> getShapes() {
+        return SHAPES;
     }
-
 }
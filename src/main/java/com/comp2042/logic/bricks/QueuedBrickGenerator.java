@@ -0,0 +1,59 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Base for seeded generators that keep a fixed-depth preview queue in a ring buffer.
+ */
+public abstract class QueuedBrickGenerator implements BrickGenerator {
+
+    private final Brick[] queue;
+    private int head;
+    private int size;
+
+    protected final SplitMix64 random;
+
+    protected QueuedBrickGenerator(long seed, int previewSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("previewSize must be at least 1, got " + previewSize);
+        }
+        random = new SplitMix64(seed);
+        queue = new Brick[previewSize + 1];
+    }
+
+    protected abstract Brick generate();
+
+    private void fill() {
+        while (size < queue.length) {
+            queue[(head + size) % queue.length] = generate();
+            size++;
+        }
+    }
+
+    @Override
+    public Brick getBrick() {
+        fill();
+        Brick brick = queue[head];
+        queue[head] = null;
+        head = (head + 1) % queue.length;
+        size--;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return peekBrick(0);
+    }
+
+    @Override
+    public Brick peekBrick(int index) {
+        if (index < 0 || index >= getPreviewSize()) {
+            throw new IndexOutOfBoundsException("preview index " + index + " out of " + getPreviewSize());
+        }
+        fill();
+        return queue[(head + index) % queue.length];
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return queue.length - 1;
+    }
+}
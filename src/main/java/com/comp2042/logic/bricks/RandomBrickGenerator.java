@@ -1,40 +1,25 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
-public class RandomBrickGenerator implements BrickGenerator {
+public class RandomBrickGenerator extends QueuedBrickGenerator {
 
-    private final List<Brick> brickList;
-
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private final List<Brick> brickList = Bricks.ALL;
 
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        this(System.nanoTime());
     }
 
-    @Override
-    public Brick getBrick() {
-        if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        }
-        return nextBricks.poll();
+    public RandomBrickGenerator(long seed) {
+        this(seed, 1);
+    }
+
+    public RandomBrickGenerator(long seed, int previewSize) {
+        super(seed, previewSize);
     }
 
     @Override
-    public Brick getNextBrick() {
-        return nextBricks.peek();
+    protected Brick generate() {
+        return brickList.get(random.nextInt(brickList.size()));
     }
 }
@@ -0,0 +1,35 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * SplitMix64 generator. It is tiny, fast and fully specified here, so a seed produces the same
+ * sequence on every JVM; {@link #split()} derives an independent generator for another thread or
+ * game without sharing state.
+ */
+public final class SplitMix64 {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SplitMix64(long seed) {
+        state = seed;
+    }
+
+    public long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    public int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong());
+    }
+
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,43 +1,37 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class TBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public TBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {6, 6, 6, 0},
-                {0, 6, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 6, 0, 0},
-                {0, 6, 6, 0},
-                {0, 6, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 6, 0, 0},
-                {6, 6, 6, 0},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 6, 0, 0},
-                {6, 6, 0, 0},
-                {0, 6, 0, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    private static final List<BrickShape> SHAPES = BrickShape.rotations(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {6, 6, 6, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {0, 6, 6, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {6, 6, 6, 0},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {6, 6, 0, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            });
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public List<BrickShape> getShapes() {
+        return SHAPES;
     }
 }
@@ -0,0 +1,155 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.VarInts;
+import com.comp2042.logic.sim.GameResult;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only view of an archive written by {@link ReplayArchiveWriter}. The file is memory-mapped in
+ * segments of up to 1 GiB that always start on an entry boundary, and every entry is indexed up
+ * front, so entries can then be read from any thread without further I/O calls.
+ */
+public final class ReplayArchive implements Closeable {
+
+    private static final long MAX_SEGMENT = 1L << 30;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private int[] entrySegments = new int[1024];
+    private int[] entryOffsets = new int[1024];
+    private int size;
+
+    private ReplayArchive(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static ReplayArchive open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ReplayArchive archive = new ReplayArchive(channel);
+            archive.index();
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void index() throws IOException {
+        long fileSize = channel.size();
+        long base = 0;
+        MappedByteBuffer segment = map(base, fileSize);
+        if (segment.remaining() < 5 || segment.getInt() != ReplayArchiveWriter.MAGIC) {
+            throw new IOException("not a replay archive");
+        }
+        int version = segment.get();
+        if (version != ReplayArchiveWriter.VERSION) {
+            throw new IOException("unsupported archive version " + version);
+        }
+        while (base + segment.position() < fileSize) {
+            int start = segment.position();
+            if (!skipEntry(segment)) {
+                if (base + segment.limit() == fileSize) {
+                    throw new EOFException("archive ends inside entry " + size);
+                }
+                if (start == 0) {
+                    throw new IOException("entry " + size + " is larger than " + MAX_SEGMENT + " bytes");
+                }
+                base += start;
+                segment = map(base, fileSize);
+                continue;
+            }
+            add(segments.size() - 1, start);
+        }
+    }
+
+    private MappedByteBuffer map(long position, long fileSize) throws IOException {
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(fileSize - position, MAX_SEGMENT));
+        segments.add(segment);
+        return segment;
+    }
+
+    //leaves the buffer after the entry, or returns false when the entry runs past the buffer
+    private static boolean skipEntry(ByteBuffer buffer) throws IOException {
+        try {
+            long length = VarInts.get(buffer);
+            for (int i = 0; i < 4; i++) {
+                VarInts.get(buffer);
+            }
+            if (length >= buffer.remaining()) {
+                return false;
+            }
+            buffer.position(buffer.position() + 1 + (int) length);
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private void add(int segment, int offset) {
+        if (size == entryOffsets.length) {
+            entrySegments = Arrays.copyOf(entrySegments, size * 2);
+            entryOffsets = Arrays.copyOf(entryOffsets, size * 2);
+        }
+        entrySegments[size] = segment;
+        entryOffsets[size] = offset;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The result stored next to the replay when it was archived, with the seed from its header.
+     */
+    public GameResult getRecordedResult(int index) throws IOException {
+        ByteBuffer buffer = entry(index);
+        int length = (int) VarInts.get(buffer);
+        long score = VarInts.get(buffer);
+        long lines = VarInts.get(buffer);
+        long bricks = VarInts.get(buffer);
+        long inputs = VarInts.get(buffer);
+        boolean gameOver = buffer.get() != 0;
+        ReplayHeader header = new ReplayReader(buffer.slice(buffer.position(), length)).getHeader();
+        return new GameResult(header.getSeed(), score, lines, bricks, inputs, gameOver);
+    }
+
+    public ReplayReader openReplay(int index) throws IOException {
+        ByteBuffer buffer = entry(index);
+        int length = (int) VarInts.get(buffer);
+        for (int i = 0; i < 4; i++) {
+            VarInts.get(buffer);
+        }
+        buffer.get();
+        return new ReplayReader(buffer.slice(buffer.position(), length));
+    }
+
+    private ByteBuffer entry(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("entry " + index + " out of " + size);
+        }
+        ByteBuffer buffer = segments.get(entrySegments[index]).duplicate();
+        buffer.position(entryOffsets[index]);
+        return buffer;
+    }
+
+    /**
+     * Closes the file. Mapped segments are released by the garbage collector once unreachable.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.VarInts;
+import com.comp2042.logic.sim.GameResult;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Appends finished replays, each with the result the game ended on, to one archive file that
+ * {@link ReplayArchive} can map and verify in bulk. Appends are synchronized, so games finishing on
+ * different threads can share one writer.
+ *
+ * <pre>
+ * archive: magic "TRPA", version byte, entries...
+ * entry:   varint replay length, varint score, varint lines, varint bricks, varint inputs,
+ *          game over byte, replay bytes
+ * </pre>
+ */
+public class ReplayArchiveWriter implements Closeable, Flushable {
+
+    static final int MAGIC = 0x54525041;
+    static final int VERSION = 1;
+
+    private final OutputStream out;
+
+    public ReplayArchiveWriter(OutputStream out) throws IOException {
+        this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out);
+        this.out.write(MAGIC >>> 24);
+        this.out.write(MAGIC >>> 16);
+        this.out.write(MAGIC >>> 8);
+        this.out.write(MAGIC);
+        this.out.write(VERSION);
+    }
+
+    public synchronized void append(byte[] replay, GameResult result) throws IOException {
+        VarInts.write(out, replay.length);
+        VarInts.write(out, result.getScore());
+        VarInts.write(out, result.getLinesCleared());
+        VarInts.write(out, result.getBricksPlaced());
+        VarInts.write(out, result.getInputs());
+        out.write(result.isGameOver() ? 1 : 0);
+        out.write(replay);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+
+/**
+ * Layout shared by {@link ReplayWriter} and {@link ReplayReader}.
+ *
+ * <pre>
+ * header:  magic "TRPL", version byte, seed as 8 bytes big-endian,
+ *          varint generator mode ordinal, varint rows, varint columns,
+ *          varint hidden rows, varint spawn x, varint spawn y
+ * records: varint (ticks &lt;&lt; CODE_BITS | code)
+ * </pre>
+ *
+ * {@code ticks} is the number of gravity ticks that ran since the previous record. Gravity ticks
+ * are not stored as events of their own, so a record is normally a single byte. The code is
+ * {@link #END}, {@link #NEW_GAME} or an event code for an {@link EventType}/{@link EventSource}
+ * pair. The stream ends with an {@code END} record, whose ticks are the ones that ran after the
+ * last input. Version 1 headers end after the columns; their boards use the default spawn for
+ * their size.
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x5452504C;
+    static final int VERSION = 2;
+    static final int VERSION_WITHOUT_SPAWN = 1;
+
+    static final int CODE_BITS = 5;
+    static final int CODE_MASK = (1 << CODE_BITS) - 1;
+    static final int END = 0;
+    static final int NEW_GAME = 1;
+    private static final int FIRST_EVENT = 2;
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+    private static final MoveEvent[] EVENTS = new MoveEvent[TYPES.length * SOURCES.length];
+
+    static {
+        if (FIRST_EVENT + EVENTS.length > CODE_MASK + 1) {
+            throw new ExceptionInInitializerError("too many event kinds for " + CODE_BITS + " code bits");
+        }
+        for (EventType type : TYPES) {
+            for (EventSource source : SOURCES) {
+                EVENTS[type.ordinal() * SOURCES.length + source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+    }
+
+    private ReplayFormat() {
+    }
+
+    static int code(MoveEvent event) {
+        return FIRST_EVENT + event.getEventType().ordinal() * SOURCES.length + event.getEventSource().ordinal();
+    }
+
+    /**
+     * @return a shared event for the code, or {@code null} when it is not an event code
+     */
+    static MoveEvent event(int code) {
+        int index = code - FIRST_EVENT;
+        return index >= 0 && index < EVENTS.length ? EVENTS[index] : null;
+    }
+
+    static boolean isGravity(MoveEvent event) {
+        return event.getEventType() == EventType.DOWN && event.getEventSource() == EventSource.THREAD;
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.BoardConfig;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+
+/**
+ * Everything besides the inputs needed to replay a game: the brick generator seed and mode, and the
+ * board configuration.
+ */
+public final class ReplayHeader {
+
+    private final long seed;
+    private final BrickGeneratorMode generatorMode;
+    private final BoardConfig boardConfig;
+
+    public ReplayHeader(long seed, BrickGeneratorMode generatorMode, int rows, int columns) {
+        this(seed, generatorMode, BoardConfig.of(rows, columns));
+    }
+
+    public ReplayHeader(long seed, BrickGeneratorMode generatorMode, BoardConfig boardConfig) {
+        this.seed = seed;
+        this.generatorMode = generatorMode;
+        this.boardConfig = boardConfig;
+    }
+
+    public BrickGenerator createGenerator() {
+        return generatorMode.create(seed, 1);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public BrickGeneratorMode getGeneratorMode() {
+        return generatorMode;
+    }
+
+    public BoardConfig getBoardConfig() {
+        return boardConfig;
+    }
+
+    public int getRows() {
+        return boardConfig.getRows();
+    }
+
+    public int getColumns() {
+        return boardConfig.getColumns();
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.logic.sim.GameResult;
+
+/**
+ * An archived replay whose re-played result differs from the recorded one, or that could not be
+ * read at all.
+ */
+public final class ReplayMismatch {
+
+    private final int index;
+    private final GameResult expected;
+    private final GameResult actual;
+    private final String error;
+
+    ReplayMismatch(int index, GameResult expected, GameResult actual, String error) {
+        this.index = index;
+        this.expected = expected;
+        this.actual = actual;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the recorded result, or {@code null} when the entry could not be read
+     */
+    public GameResult getExpected() {
+        return expected;
+    }
+
+    /**
+     * @return the re-played result, or {@code null} when the replay failed
+     */
+    public GameResult getActual() {
+        return actual;
+    }
+
+    /**
+     * @return why the replay failed, or {@code null} when it ran but disagreed
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        if (error != null) {
+            return "entry " + index + ": " + error;
+        }
+        return String.format("entry %d (seed %d): expected score=%d lines=%d bricks=%d, got score=%d lines=%d bricks=%d",
+                index, expected.getSeed(), expected.getScore(), expected.getLinesCleared(), expected.getBricksPlaced(),
+                actual.getScore(), actual.getLinesCleared(), actual.getBricksPlaced());
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.BitBoard;
+import com.comp2042.Board;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.sim.GameResult;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Re-drives a recorded game through a headless {@link GameEngine} as fast as it will go. Gravity
+ * ticks and inputs are applied without building any view data.
+ */
+public final class ReplayPlayer {
+
+    public static final Function<ReplayHeader, Board> SIMPLE_BOARD =
+            header -> new SimpleBoard(header.getBoardConfig(), header.createGenerator());
+
+    public static final Function<ReplayHeader, Board> BIT_BOARD =
+            header -> new BitBoard(header.getBoardConfig(), header.createGenerator());
+
+    private ReplayPlayer() {
+    }
+
+    public static GameResult play(ReplayReader reader, Function<ReplayHeader, Board> boardFactory) throws IOException {
+        GameEngine engine = new GameEngine(boardFactory.apply(reader.getHeader()));
+        long inputs = 0;
+        while (reader.next()) {
+            for (long t = reader.getTicks(); t > 0 && !engine.isGameOver(); t--) {
+                engine.handleTick();
+            }
+            MoveEvent event = reader.getEvent();
+            if (event != null) {
+                engine.handle(event);
+                inputs++;
+            } else if (reader.isNewGame()) {
+                engine.newGame();
+            }
+        }
+        return new GameResult(reader.getHeader().getSeed(), engine.getScore().getScore(), engine.getLinesCleared(),
+                engine.getBricksPlaced(), inputs, engine.isGameOver());
+    }
+}
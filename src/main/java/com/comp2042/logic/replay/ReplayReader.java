@@ -0,0 +1,140 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.BoardConfig;
+import com.comp2042.MoveEvent;
+import com.comp2042.VarInts;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads a replay written by {@link ReplayWriter} one record at a time, either from a stream or from
+ * a buffer positioned at the start of the replay, such as a slice of a mapped file.
+ */
+public class ReplayReader implements Closeable {
+
+    private static final BrickGeneratorMode[] MODES = BrickGeneratorMode.values();
+
+    private final InputStream in;
+    private final ByteBuffer buffer;
+    private final ReplayHeader header;
+    private long ticks;
+    private int code = -1;
+
+    public ReplayReader(InputStream in) throws IOException {
+        this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in);
+        buffer = null;
+        header = readHeader();
+    }
+
+    public ReplayReader(ByteBuffer buffer) throws IOException {
+        in = null;
+        this.buffer = buffer;
+        header = readHeader();
+    }
+
+    private ReplayHeader readHeader() throws IOException {
+        if (readInt() != ReplayFormat.MAGIC) {
+            throw new IOException("not a replay");
+        }
+        int version = readByte();
+        if (version != ReplayFormat.VERSION && version != ReplayFormat.VERSION_WITHOUT_SPAWN) {
+            throw new IOException("unsupported replay version " + version);
+        }
+        long seed = (long) readInt() << 32 | (readInt() & 0xFFFFFFFFL);
+        long mode = readVarLong();
+        if (mode >= MODES.length) {
+            throw new IOException("unknown generator mode " + mode);
+        }
+        int rows = (int) readVarLong();
+        int columns = (int) readVarLong();
+        try {
+            if (version == ReplayFormat.VERSION_WITHOUT_SPAWN) {
+                return new ReplayHeader(seed, MODES[(int) mode], BoardConfig.of(rows, columns));
+            }
+            return new ReplayHeader(seed, MODES[(int) mode],
+                    new BoardConfig(rows, columns, (int) readVarLong(), (int) readVarLong(), (int) readVarLong()));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("invalid board in replay header: " + e.getMessage(), e);
+        }
+    }
+
+    public ReplayHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false once the end record has been read
+     * @throws EOFException when the replay stops before its end record
+     */
+    public boolean next() throws IOException {
+        if (code == ReplayFormat.END) {
+            return false;
+        }
+        long record = readVarLong();
+        ticks = record >>> ReplayFormat.CODE_BITS;
+        code = (int) (record & ReplayFormat.CODE_MASK);
+        if (code != ReplayFormat.END && code != ReplayFormat.NEW_GAME && ReplayFormat.event(code) == null) {
+            throw new IOException("unknown record code " + code);
+        }
+        return true;
+    }
+
+    /**
+     * Gravity ticks to run before applying the current record.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public boolean isEnd() {
+        return code == ReplayFormat.END;
+    }
+
+    public boolean isNewGame() {
+        return code == ReplayFormat.NEW_GAME;
+    }
+
+    /**
+     * @return the current record's input, or {@code null} for a new game or end record
+     */
+    public MoveEvent getEvent() {
+        return ReplayFormat.event(code);
+    }
+
+    private int readByte() throws IOException {
+        if (buffer != null) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException();
+            }
+            return buffer.get() & 0xFF;
+        }
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private int readInt() throws IOException {
+        return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+    }
+
+    private long readVarLong() throws IOException {
+        return buffer != null ? VarInts.get(buffer) : VarInts.read(in);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+}
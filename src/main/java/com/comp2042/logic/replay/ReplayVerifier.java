@@ -0,0 +1,58 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.Board;
+import com.comp2042.logic.sim.GameResult;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Re-plays every entry of a {@link ReplayArchive} headless, in parallel, and checks the final score,
+ * lines, bricks, input count and game over flag against the recorded result.
+ */
+public final class ReplayVerifier {
+
+    private ReplayVerifier() {
+    }
+
+    public static VerificationReport verify(ReplayArchive archive, int parallelism, Function<ReplayHeader, Board> boardFactory) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            List<ReplayMismatch> mismatches = pool.submit(() -> IntStream.range(0, archive.size())
+                    .parallel()
+                    .mapToObj(i -> check(archive, i, boardFactory))
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparingInt(ReplayMismatch::getIndex))
+                    .collect(Collectors.toList()))
+                    .join();
+            return new VerificationReport(archive.size(), mismatches, System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ReplayMismatch check(ReplayArchive archive, int index, Function<ReplayHeader, Board> boardFactory) {
+        GameResult expected = null;
+        try {
+            expected = archive.getRecordedResult(index);
+            GameResult actual = ReplayPlayer.play(archive.openReplay(index), boardFactory);
+            if (actual.getScore() != expected.getScore()
+                    || actual.getLinesCleared() != expected.getLinesCleared()
+                    || actual.getBricksPlaced() != expected.getBricksPlaced()
+                    || actual.getInputs() != expected.getInputs()
+                    || actual.isGameOver() != expected.isGameOver()) {
+                return new ReplayMismatch(index, expected, actual, null);
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            return new ReplayMismatch(index, expected, null, e.toString());
+        }
+    }
+}
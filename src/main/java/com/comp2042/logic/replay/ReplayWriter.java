@@ -0,0 +1,108 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.MoveEvent;
+import com.comp2042.VarInts;
+import com.comp2042.logic.InputRecorder;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams a replay in the {@link ReplayFormat} layout. Plug it into a game engine as its
+ * {@link InputRecorder}, and close it to write the end record.
+ */
+public class ReplayWriter implements InputRecorder, Closeable, Flushable {
+
+    private final OutputStream out;
+    private long pendingTicks;
+    private boolean closed;
+
+    public ReplayWriter(OutputStream out, ReplayHeader header) throws IOException {
+        this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out);
+        writeInt(ReplayFormat.MAGIC);
+        this.out.write(ReplayFormat.VERSION);
+        writeInt((int) (header.getSeed() >>> 32));
+        writeInt((int) header.getSeed());
+        writeVarLong(header.getGeneratorMode().ordinal());
+        writeVarLong(header.getRows());
+        writeVarLong(header.getColumns());
+        writeVarLong(header.getBoardConfig().getHiddenRows());
+        writeVarLong(header.getBoardConfig().getSpawnX());
+        writeVarLong(header.getBoardConfig().getSpawnY());
+    }
+
+    public void tick() {
+        pendingTicks++;
+    }
+
+    /**
+     * Records a gravity tick as a tick and anything else as an event.
+     */
+    public void record(MoveEvent event) throws IOException {
+        if (ReplayFormat.isGravity(event)) {
+            tick();
+        } else {
+            writeRecord(ReplayFormat.code(event));
+        }
+    }
+
+    public void recordNewGame() throws IOException {
+        writeRecord(ReplayFormat.NEW_GAME);
+    }
+
+    @Override
+    public void onInput(MoveEvent event) {
+        try {
+            record(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onNewGame() {
+        try {
+            recordNewGame();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRecord(int code) throws IOException {
+        if (closed) {
+            throw new IOException("replay already closed");
+        }
+        writeVarLong(pendingTicks << ReplayFormat.CODE_BITS | code);
+        pendingTicks = 0;
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        VarInts.write(out, value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        writeRecord(ReplayFormat.END);
+        closed = true;
+        out.close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.logic.replay;
+
+import java.util.List;
+
+public final class VerificationReport {
+
+    private final int replays;
+    private final List<ReplayMismatch> mismatches;
+    private final long elapsedNanos;
+
+    VerificationReport(int replays, List<ReplayMismatch> mismatches, long elapsedNanos) {
+        this.replays = replays;
+        this.mismatches = List.copyOf(mismatches);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getReplays() {
+        return replays;
+    }
+
+    /**
+     * Failed entries in archive order.
+     */
+    public List<ReplayMismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public boolean isOk() {
+        return mismatches.isEmpty();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getReplaysPerSecond() {
+        return elapsedNanos == 0 ? 0 : replays * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("replays=%d mismatches=%d in %.1f ms (%.0f replays/s)",
+                replays, mismatches.size(), elapsedNanos / 1_000_000.0, getReplaysPerSecond());
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.logic.sim;
+
+public final class GameResult {
+
+    private final long seed;
+    private final long score;
+    private final long linesCleared;
+    private final long bricksPlaced;
+    private final long inputs;
+    private final boolean gameOver;
+
+    public GameResult(long seed, long score, long linesCleared, long bricksPlaced, long inputs, boolean gameOver) {
+        this.seed = seed;
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.bricksPlaced = bricksPlaced;
+        this.inputs = inputs;
+        this.gameOver = gameOver;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public long getLinesCleared() {
+        return linesCleared;
+    }
+
+    public long getBricksPlaced() {
+        return bricksPlaced;
+    }
+
+    public long getInputs() {
+        return inputs;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.Board;
+import com.comp2042.EventType;
+
+/**
+ * Chooses the player's inputs in a simulated game. Each game gets its own instance, so
+ * implementations may keep per-game state.
+ */
+public interface MovePolicy {
+
+    /**
+     * @return the next input to apply, or {@code null} to let gravity run
+     */
+    EventType nextMove(Board board);
+
+    /**
+     * Called before the first input for every new brick, including the first one of the game.
+     */
+    default void onBrickSpawned(Board board) {
+    }
+
+    /**
+     * {@link #onBrickSpawned} split for callers that cannot wait for it: the board is read now, on
+     * the calling thread, and the returned work may run on any thread. Neither {@link #nextMove} nor
+     * this method may be called again until that work has finished.
+     */
+    default Runnable planBrick(Board board) {
+        onBrickSpawned(board);
+        return () -> {
+        };
+    }
+}
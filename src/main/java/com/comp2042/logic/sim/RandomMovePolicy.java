@@ -0,0 +1,22 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.Board;
+import com.comp2042.EventType;
+
+import java.util.SplittableRandom;
+
+public class RandomMovePolicy implements MovePolicy {
+
+    private static final EventType[] MOVES = {EventType.DOWN, EventType.LEFT, EventType.RIGHT, EventType.ROTATE};
+
+    private final SplittableRandom random;
+
+    public RandomMovePolicy(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public EventType nextMove(Board board) {
+        return MOVES[random.nextInt(MOVES.length)];
+    }
+}
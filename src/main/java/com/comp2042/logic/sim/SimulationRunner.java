@@ -0,0 +1,127 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.Board;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.logic.replay.ReplayArchiveWriter;
+import com.comp2042.logic.replay.ReplayHeader;
+import com.comp2042.logic.replay.ReplayWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Plays batches of independent headless games in parallel on a fork-join pool. Every game gets its
+ * own board, seeded brick generator and move policy, so games share no mutable state and results
+ * are reproducible for a given base seed.
+ */
+public class SimulationRunner {
+
+    private static final MoveEvent[] USER_EVENTS = new MoveEvent[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            USER_EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final BrickGeneratorMode generatorMode;
+    private final Function<BrickGenerator, Board> boardFactory;
+    private final int inputsPerTick;
+    private final long maxBricks;
+    private ReplayArchiveWriter archive;
+
+    public SimulationRunner(int parallelism, BrickGeneratorMode generatorMode, Function<BrickGenerator, Board> boardFactory, int inputsPerTick, long maxBricks) {
+        if (inputsPerTick < 0 || maxBricks <= 0) {
+            throw new IllegalArgumentException("inputsPerTick must be >= 0 and maxBricks > 0");
+        }
+        pool = new ForkJoinPool(parallelism);
+        this.generatorMode = generatorMode;
+        this.boardFactory = boardFactory;
+        this.inputsPerTick = inputsPerTick;
+        this.maxBricks = maxBricks;
+    }
+
+    /**
+     * Records every game played from now on into the archive, together with its result.
+     */
+    public void recordTo(ReplayArchiveWriter archive) {
+        this.archive = archive;
+    }
+
+    public SimulationSummary run(int games, long seed, LongFunction<MovePolicy> policyFactory) {
+        long start = System.nanoTime();
+        SimulationSummary summary = pool.submit(() -> IntStream.range(0, games)
+                .parallel()
+                .mapToObj(i -> play(gameSeed(seed, i), policyFactory))
+                .collect(SimulationSummary::new, SimulationSummary::accept, SimulationSummary::combine))
+                .join();
+        summary.setElapsedNanos(System.nanoTime() - start);
+        return summary;
+    }
+
+    public GameResult play(long gameSeed, LongFunction<MovePolicy> policyFactory) {
+        GameEngine engine = new GameEngine(boardFactory.apply(generatorMode.create(gameSeed, 1)));
+        ReplayArchiveWriter archive = this.archive;
+        ByteArrayOutputStream replay = archive == null ? null : new ByteArrayOutputStream();
+        ReplayWriter replayWriter = replay == null ? null : startReplay(engine, gameSeed, replay);
+        MovePolicy policy = policyFactory.apply(gameSeed);
+        long inputs = 0;
+        long spawned = -1;
+        while (!engine.isGameOver() && engine.getBricksPlaced() < maxBricks) {
+            for (int i = 0; i < inputsPerTick && !engine.isGameOver(); i++) {
+                if (spawned != engine.getBricksPlaced()) {
+                    spawned = engine.getBricksPlaced();
+                    policy.onBrickSpawned(engine.getBoard());
+                }
+                EventType move = policy.nextMove(engine.getBoard());
+                if (move == null) {
+                    break;
+                }
+                engine.handle(USER_EVENTS[move.ordinal()]);
+                inputs++;
+            }
+            engine.handleTick();
+        }
+        GameResult result = new GameResult(gameSeed, engine.getScore().getScore(), engine.getLinesCleared(),
+                engine.getBricksPlaced(), inputs, engine.isGameOver());
+        if (replayWriter != null) {
+            try {
+                replayWriter.close();
+                archive.append(replay.toByteArray(), result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return result;
+    }
+
+    private ReplayWriter startReplay(GameEngine engine, long gameSeed, ByteArrayOutputStream replay) {
+        try {
+            ReplayWriter writer = new ReplayWriter(replay, new ReplayHeader(gameSeed, generatorMode, engine.getBoard().getConfig()));
+            engine.setRecorder(writer);
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    static long gameSeed(long seed, int game) {
+        return SplitMix64.mix(seed + (game + 1) * 0x9E3779B97F4A7C15L);
+    }
+}
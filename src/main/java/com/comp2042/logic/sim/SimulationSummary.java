@@ -0,0 +1,83 @@
+package com.comp2042.logic.sim;
+
+import java.util.LongSummaryStatistics;
+
+/**
+ * Aggregated results of a batch of simulated games. Instances are mutable accumulators so they can
+ * be used directly as a parallel stream collector.
+ */
+public final class SimulationSummary {
+
+    private final LongSummaryStatistics score = new LongSummaryStatistics();
+    private final LongSummaryStatistics lines = new LongSummaryStatistics();
+    private final LongSummaryStatistics bricks = new LongSummaryStatistics();
+    private long inputs;
+    private long gamesOver;
+    private long elapsedNanos;
+
+    void accept(GameResult result) {
+        score.accept(result.getScore());
+        lines.accept(result.getLinesCleared());
+        bricks.accept(result.getBricksPlaced());
+        inputs += result.getInputs();
+        if (result.isGameOver()) {
+            gamesOver++;
+        }
+    }
+
+    void combine(SimulationSummary other) {
+        score.combine(other.score);
+        lines.combine(other.lines);
+        bricks.combine(other.bricks);
+        inputs += other.inputs;
+        gamesOver += other.gamesOver;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return score.getCount();
+    }
+
+    public long getGamesOver() {
+        return gamesOver;
+    }
+
+    public LongSummaryStatistics getScore() {
+        return score;
+    }
+
+    public LongSummaryStatistics getLinesCleared() {
+        return lines;
+    }
+
+    public LongSummaryStatistics getBricksPlaced() {
+        return bricks;
+    }
+
+    public long getInputs() {
+        return inputs;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d (%d topped out) %.1f games/s%n"
+                        + "score   avg=%.1f min=%d max=%d%n"
+                        + "lines   avg=%.2f min=%d max=%d%n"
+                        + "bricks  avg=%.1f min=%d max=%d",
+                getGames(), gamesOver, getGamesPerSecond(),
+                score.getAverage(), score.getMin(), score.getMax(),
+                lines.getAverage(), lines.getMin(), lines.getMax(),
+                bricks.getAverage(), bricks.getMin(), bricks.getMax());
+    }
+}
@@ -0,0 +1,259 @@
+package com.comp2042.net;
+
+import com.comp2042.Board;
+import com.comp2042.Score;
+import com.comp2042.VarInts;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes successive states of one {@link Board} as differences from the state it encoded last,
+ * which {@link RemoteBoard#apply} turns back into the full state.
+ *
+ * <pre>
+ *   flags:   game over, keyframe
+ *   fields:  one bit per part that follows
+ *   rows:    bitmask of the changed rows, then per changed row a bitmask of its changed cells,
+ *            then the new colors of all those cells in order as runs of (varint length, color)
+ *   x, y, ghost y:  signed bytes
+ *   brick, next:    shapes as in {@link Protocol}
+ *   score:   varint score, lines, level, combo
+ * </pre>
+ *
+ * A keyframe is encoded against an empty board with every field present, so it can be applied
+ * with no history; one is produced every {@code keyframeInterval} frames, and on request for a new
+ * receiver. Only the rows reported through {@link #touchRows} are compared, except in keyframes.
+ */
+public final class BoardDeltaEncoder {
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 120;
+
+    static final int FLAG_GAME_OVER = 1;
+    static final int FLAG_KEYFRAME = 2;
+
+    static final int FIELD_ROWS = 1;
+    static final int FIELD_X = 1 << 1;
+    static final int FIELD_Y = 1 << 2;
+    static final int FIELD_GHOST_Y = 1 << 3;
+    static final int FIELD_BRICK = 1 << 4;
+    static final int FIELD_NEXT = 1 << 5;
+    static final int FIELD_SCORE = 1 << 6;
+    private static final int ALL_FIELDS = (1 << 7) - 1;
+
+    private static final int MAX_VARLONG_BYTES = 10;
+
+    private final int rows;
+    private final int columns;
+    private final int keyframeInterval;
+    private final int[][] baseline;
+    private final byte[] rowMask;
+    private final byte[] cellMasks;
+    private final int cellMaskBytes;
+    private final int[] changedColors;
+    private int dirtyFromRow;
+    private int dirtyToRow;
+    private int framesSinceKeyframe;
+    private int flags;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private int brick;
+    private int next;
+    private long score;
+    private long lines;
+    private long level;
+    private long combo;
+
+    public BoardDeltaEncoder(int rows, int columns) {
+        this(rows, columns, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param keyframeInterval frames between keyframes, counting the keyframe itself
+     */
+    public BoardDeltaEncoder(int rows, int columns, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval must be positive, got " + keyframeInterval);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.keyframeInterval = keyframeInterval;
+        baseline = new int[rows][columns];
+        rowMask = new byte[maskBytes(rows)];
+        cellMaskBytes = maskBytes(columns);
+        cellMasks = new byte[rows * cellMaskBytes];
+        changedColors = new int[rows * columns];
+        dirtyFromRow = rows;
+        dirtyToRow = -1;
+        framesSinceKeyframe = keyframeInterval;
+    }
+
+    /**
+     * Largest encoding of a board this size: every cell a run of its own plus every field.
+     */
+    public static int maxSize(int rows, int columns) {
+        return 2 + maskBytes(rows) + rows * maskBytes(columns) + rows * columns * 2
+                + 3 + 2 * 3 + 4 * MAX_VARLONG_BYTES;
+    }
+
+    private static int maskBytes(int bits) {
+        return (bits + 7) >>> 3;
+    }
+
+    /**
+     * Marks background rows that may have changed since the last frame.
+     */
+    public void touchRows(int fromRow, int toRow) {
+        dirtyFromRow = Math.min(dirtyFromRow, Math.max(fromRow, 0));
+        dirtyToRow = Math.max(dirtyToRow, Math.min(toRow, rows - 1));
+    }
+
+    /**
+     * Writes the changes since the previous frame, or a keyframe when one is due.
+     *
+     * @return whether anything changed; when not, the frame carries no fields and need not be sent
+     */
+    public boolean encode(ByteBuffer out, Board board, boolean gameOver) {
+        return encode(out, board, gameOver, ++framesSinceKeyframe >= keyframeInterval);
+    }
+
+    /**
+     * Writes the whole state, for a receiver with no history; later deltas follow on from it.
+     */
+    public void encodeKeyframe(ByteBuffer out, Board board, boolean gameOver) {
+        encode(out, board, gameOver, true);
+    }
+
+    private boolean encode(ByteBuffer out, Board board, boolean gameOver, boolean keyframe) {
+        if (keyframe) {
+            for (int[] row : baseline) {
+                Arrays.fill(row, 0);
+            }
+            dirtyFromRow = 0;
+            dirtyToRow = rows - 1;
+            framesSinceKeyframe = 0;
+        }
+        int frameFlags = (gameOver ? FLAG_GAME_OVER : 0) | (keyframe ? FLAG_KEYFRAME : 0);
+        int start = out.position();
+        out.put((byte) frameFlags);
+        out.put((byte) 0);
+        int fields = keyframe ? ALL_FIELDS & ~FIELD_ROWS : 0;
+
+        int changed = diffRows(board.getBoardMatrix());
+        if (changed > 0) {
+            fields |= FIELD_ROWS;
+            putRows(out, changed);
+        }
+        int x = board.getBrickX();
+        int y = board.getBrickY();
+        int ghost = y + board.getDropDistance();
+        if (x != brickX) {
+            fields |= FIELD_X;
+        }
+        if (y != brickY) {
+            fields |= FIELD_Y;
+        }
+        if (ghost != ghostY) {
+            fields |= FIELD_GHOST_Y;
+        }
+        int shape = Protocol.packShape(board.getBrickShape());
+        if (shape != brick) {
+            fields |= FIELD_BRICK;
+        }
+        int nextShape = Protocol.packShape(board.getNextBrick().getShapes().get(0));
+        if (nextShape != next) {
+            fields |= FIELD_NEXT;
+        }
+        Score s = board.getScore();
+        if (s.getScore() != score || s.getLines() != lines || s.getLevel() != level || s.getCombo() != combo) {
+            fields |= FIELD_SCORE;
+        }
+        brickX = x;
+        brickY = y;
+        ghostY = ghost;
+        brick = shape;
+        next = nextShape;
+        score = s.getScore();
+        lines = s.getLines();
+        level = s.getLevel();
+        combo = s.getCombo();
+
+        if ((fields & FIELD_X) != 0) {
+            out.put((byte) x);
+        }
+        if ((fields & FIELD_Y) != 0) {
+            out.put((byte) y);
+        }
+        if ((fields & FIELD_GHOST_Y) != 0) {
+            out.put((byte) ghost);
+        }
+        if ((fields & FIELD_BRICK) != 0) {
+            Protocol.putShape(out, shape);
+        }
+        if ((fields & FIELD_NEXT) != 0) {
+            Protocol.putShape(out, nextShape);
+        }
+        if ((fields & FIELD_SCORE) != 0) {
+            VarInts.put(out, score);
+            VarInts.put(out, lines);
+            VarInts.put(out, level);
+            VarInts.put(out, combo);
+        }
+        out.put(start + 1, (byte) fields);
+        boolean anyChange = fields != 0 || frameFlags != flags;
+        flags = frameFlags & ~FLAG_KEYFRAME;
+        return anyChange;
+    }
+
+    /**
+     * Compares the dirty rows with the baseline, recording the changed cells in the masks and
+     * moving the baseline up to date.
+     *
+     * @return the number of changed cells
+     */
+    private int diffRows(int[][] matrix) {
+        int changed = 0;
+        for (int i = dirtyFromRow; i <= dirtyToRow; i++) {
+            int[] row = matrix[i];
+            int[] base = baseline[i];
+            int maskOffset = i * cellMaskBytes;
+            for (int j = 0; j < columns; j++) {
+                if (row[j] != base[j]) {
+                    base[j] = row[j];
+                    rowMask[i >>> 3] |= (byte) (1 << (i & 7));
+                    cellMasks[maskOffset + (j >>> 3)] |= (byte) (1 << (j & 7));
+                    changedColors[changed++] = row[j];
+                }
+            }
+        }
+        dirtyFromRow = rows;
+        dirtyToRow = -1;
+        return changed;
+    }
+
+    /**
+     * Writes and clears the masks filled by {@link #diffRows}, then the colors as runs.
+     */
+    private void putRows(ByteBuffer out, int changed) {
+        out.put(rowMask);
+        for (int i = 0; i < rows; i++) {
+            if ((rowMask[i >>> 3] & 1 << (i & 7)) != 0) {
+                out.put(cellMasks, i * cellMaskBytes, cellMaskBytes);
+                Arrays.fill(cellMasks, i * cellMaskBytes, (i + 1) * cellMaskBytes, (byte) 0);
+            }
+        }
+        Arrays.fill(rowMask, (byte) 0);
+        int k = 0;
+        while (k < changed) {
+            int color = changedColors[k];
+            int run = 1;
+            while (k + run < changed && changedColors[k + run] == color) {
+                run++;
+            }
+            VarInts.put(out, run);
+            out.put((byte) color);
+            k += run;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.comp2042.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Two-way channel carrying whole {@link Protocol} frames. {@link #send} may be called from several
+ * threads at once; {@link #receive} only from one.
+ */
+public interface Connection extends Closeable {
+
+    /**
+     * Sends the bytes between the buffer's position and limit as one frame, blocking while the peer
+     * is not keeping up. The buffer can be reused as soon as this returns.
+     */
+    void send(ByteBuffer frame) throws IOException;
+
+    /**
+     * Blocks until the next frame arrives.
+     *
+     * @return the frame, valid until the next call, or {@code null} once the peer has closed
+     */
+    ByteBuffer receive() throws IOException;
+}
@@ -0,0 +1,162 @@
+package com.comp2042.net;
+
+import com.comp2042.EventType;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Player side of a {@link GameServer} connection. Inputs may be sent from one thread while another
+ * calls {@link #receive()} in a loop; the boards and latency figures belong to the receiving thread.
+ * Input latency is the time from sending an input to the first state frame acknowledging it.
+ */
+public final class GameClient implements Closeable {
+
+    private static final int SEQUENCES = 1 << 16;
+
+    private final Connection connection;
+    private final RemoteBoard[] boards;
+    private final long seed;
+    private final ByteBuffer input = ByteBuffer.allocate(5);
+    private final AtomicLongArray sentAt = new AtomicLongArray(SEQUENCES);
+    private int sequence;
+    private int lastAck;
+    private long latencySamples;
+    private long latencyTotalNanos;
+    private long latencyMaxNanos;
+
+    /**
+     * Sends the greeting and waits for the server to place the player.
+     *
+     * @param players 1 to play alone, 2 to wait for an opponent
+     */
+    public GameClient(Connection connection, int players) throws IOException {
+        if (players != 1 && players != 2) {
+            throw new IllegalArgumentException("players must be 1 or 2, got " + players);
+        }
+        this.connection = connection;
+        connection.send(ByteBuffer.wrap(new byte[]{Protocol.HELLO, Protocol.VERSION, (byte) players}));
+        ByteBuffer welcome = connection.receive();
+        if (welcome == null) {
+            throw new EOFException("server closed before welcome");
+        }
+        try {
+            if (welcome.get() != Protocol.WELCOME) {
+                throw new IOException("expected welcome");
+            }
+            boards = new RemoteBoard[welcome.get() & 0xFF];
+            int rows = welcome.get() & 0xFF;
+            int columns = welcome.get() & 0xFF;
+            seed = welcome.getLong();
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new RemoteBoard(rows, columns);
+            }
+        } catch (BufferUnderflowException e) {
+            throw Protocol.truncated(e);
+        }
+    }
+
+    public void press(EventType type) throws IOException {
+        sendInput(type, true);
+    }
+
+    public void release(EventType type) throws IOException {
+        sendInput(type, false);
+    }
+
+    private synchronized void sendInput(EventType type, boolean pressed) throws IOException {
+        sequence = sequence + 1 & SEQUENCES - 1;
+        if (sequence == 0) {
+            sequence = 1;
+        }
+        sentAt.set(sequence, System.nanoTime());
+        input.clear();
+        input.put(Protocol.INPUT).put((byte) type.ordinal()).put((byte) (pressed ? 1 : 0)).putShort((short) sequence);
+        connection.send(input.flip());
+    }
+
+    public void newGame() throws IOException {
+        connection.send(ByteBuffer.wrap(new byte[]{Protocol.NEW_GAME}));
+    }
+
+    /**
+     * Blocks for the next state frame and applies it to its board.
+     *
+     * @return {@code false} once the server has closed the connection
+     */
+    public boolean receive() throws IOException {
+        ByteBuffer frame = connection.receive();
+        if (frame == null) {
+            return false;
+        }
+        try {
+            if (frame.get() != Protocol.STATE) {
+                throw new IOException("expected state");
+            }
+            int slot = frame.get() & 0xFF;
+            int ack = frame.getShort() & 0xFFFF;
+            if (slot >= boards.length) {
+                throw new IOException("no board in slot " + slot);
+            }
+            if (slot == 0 && ack != lastAck) {
+                lastAck = ack;
+                long sent = sentAt.getAndSet(ack, 0);
+                if (sent != 0) {
+                    long latency = System.nanoTime() - sent;
+                    latencySamples++;
+                    latencyTotalNanos += latency;
+                    latencyMaxNanos = Math.max(latencyMaxNanos, latency);
+                }
+            }
+            boards[slot].apply(frame);
+        } catch (BufferUnderflowException e) {
+            throw Protocol.truncated(e);
+        }
+        return true;
+    }
+
+    /**
+     * @param slot 0 for the player's own board, 1 for the opponent's
+     */
+    public RemoteBoard getBoard(int slot) {
+        return boards[slot];
+    }
+
+    public int getSlots() {
+        return boards.length;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getLatencySamples() {
+        return latencySamples;
+    }
+
+    public long getLatencyTotalNanos() {
+        return latencyTotalNanos;
+    }
+
+    public long getLatencyMaxNanos() {
+        return latencyMaxNanos;
+    }
+
+    /**
+     * Says goodbye if the connection still works, then closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            connection.send(ByteBuffer.wrap(new byte[]{Protocol.BYE}));
+        } catch (IOException ignored) {
+            //the server is gone already
+        } finally {
+            connection.close();
+        }
+    }
+}
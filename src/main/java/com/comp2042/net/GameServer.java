@@ -0,0 +1,239 @@
+package com.comp2042.net;
+
+import com.comp2042.BoardConfig;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.bricks.SplitMix64;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hosts any number of concurrent {@link GameSession}s behind one {@link ServerTransport}. Every
+ * connection, every session and every peer's {@link Outbox} gets its own virtual thread. A client
+ * asking for two players waits for the next one asking the same; both then play the same brick
+ * sequence in versus mode, sending garbage to each other, and each receives the other's board as
+ * slot 1.
+ */
+public final class GameServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 7420;
+
+    //brick and ghost positions travel as signed bytes
+    private static final int MAX_ROWS = Byte.MAX_VALUE;
+    private static final int MAX_COLUMNS = Byte.MAX_VALUE;
+
+    private final ServerTransport transport;
+    private final BoardConfig boardConfig;
+    private final BrickGeneratorMode generatorMode;
+    private final AtomicLong seeds;
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<GameSession> sessions = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock matchLock = new ReentrantLock();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder garbageSent = new LongAdder();
+    private GameSession waiting;
+
+    public GameServer(ServerTransport transport) {
+        this(transport, BoardConfig.DEFAULT, BrickGeneratorMode.UNIFORM, System.nanoTime());
+    }
+
+    public GameServer(ServerTransport transport, BoardConfig boardConfig, BrickGeneratorMode generatorMode, long seed) {
+        int rows = boardConfig.getRows();
+        int columns = boardConfig.getColumns();
+        if (rows > MAX_ROWS || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("board must be at most " + MAX_ROWS + "x" + MAX_COLUMNS
+                    + ", got " + rows + "x" + columns);
+        }
+        if (Protocol.STATE_HEADER_BYTES + BoardDeltaEncoder.maxSize(rows, columns) > Protocol.MAX_FRAME) {
+            throw new IllegalArgumentException("a " + rows + "x" + columns + " board may not fit in one frame");
+        }
+        this.transport = transport;
+        this.boardConfig = boardConfig;
+        this.generatorMode = generatorMode;
+        seeds = new AtomicLong(seed);
+    }
+
+    public void start() {
+        threads.execute(this::acceptLoop);
+    }
+
+    private void acceptLoop() {
+        while (true) {
+            Connection connection;
+            try {
+                connection = transport.accept();
+            } catch (IOException e) {
+                return;
+            }
+            threads.execute(() -> serve(connection));
+        }
+    }
+
+    private void serve(Connection connection) {
+        GameSession session = null;
+        try (connection) {
+            ByteBuffer hello = connection.receive();
+            if (hello == null) {
+                return;
+            }
+            framesReceived.increment();
+            if (hello.get() != Protocol.HELLO || hello.get() != Protocol.VERSION) {
+                return;
+            }
+            session = join(connection, hello.get());
+            ByteBuffer frame;
+            while (session.isOpen() && (frame = connection.receive()) != null) {
+                framesReceived.increment();
+                byte type = frame.get();
+                if (type == Protocol.INPUT) {
+                    session.input(Protocol.eventType(frame.get()), frame.get() != 0, frame.getShort() & 0xFFFF);
+                } else if (type == Protocol.NEW_GAME) {
+                    session.newGame();
+                } else if (type == Protocol.BYE) {
+                    break;
+                } else {
+                    throw new IOException("unexpected message " + type);
+                }
+            }
+        } catch (IOException | BufferUnderflowException e) {
+            //a broken or misbehaving client only ends its own session
+        } finally {
+            if (session != null) {
+                session.stop();
+            }
+        }
+    }
+
+    private GameSession join(Connection connection, int players) throws IOException {
+        if (players != 2) {
+            GameSession session = new GameSession(this, connection, nextSeed());
+            welcome(connection, 1, session.getSeed());
+            launch(session);
+            return session;
+        }
+        matchLock.lock();
+        try {
+            GameSession opponent = waiting;
+            if (opponent == null || !opponent.isOpen()) {
+                waiting = new GameSession(this, connection, nextSeed());
+                sessions.add(waiting);
+                welcome(connection, 2, waiting.getSeed());
+                return waiting;
+            }
+            waiting = null;
+            GameSession session = new GameSession(this, connection, opponent.getSeed());
+            welcome(connection, 2, session.getSeed());
+            session.addPeer(opponent.getPlayer(), 1);
+            opponent.addPeer(connection, 1);
+            session.setOpponent(opponent);
+            opponent.setOpponent(session);
+            threads.execute(opponent::run);
+            launch(session);
+            return session;
+        } finally {
+            matchLock.unlock();
+        }
+    }
+
+    private void launch(GameSession session) {
+        sessions.add(session);
+        threads.execute(session::run);
+    }
+
+    private void welcome(Connection connection, int slots, long seed) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(12);
+        frame.put(Protocol.WELCOME).put((byte) slots).put((byte) boardConfig.getRows()).put((byte) boardConfig.getColumns())
+                .putLong(seed).flip();
+        connection.send(frame);
+        onFrameSent(frame.limit());
+    }
+
+    private long nextSeed() {
+        return SplitMix64.mix(seeds.getAndIncrement());
+    }
+
+    void onSessionStopped(GameSession session) {
+        sessions.remove(session);
+        try {
+            session.getPlayer().close();
+        } catch (IOException ignored) {
+            //already gone
+        }
+    }
+
+    /**
+     * Runs a session's helper task, such as a peer's {@link Outbox}, on its own virtual thread.
+     */
+    void execute(Runnable task) {
+        threads.execute(task);
+    }
+
+    void onFrameSent(int bytes) {
+        framesSent.increment();
+        bytesSent.add(bytes);
+    }
+
+    void onGarbageSent(long lines) {
+        garbageSent.add(lines);
+    }
+
+    BoardConfig getBoardConfig() {
+        return boardConfig;
+    }
+
+    BrickGeneratorMode getGeneratorMode() {
+        return generatorMode;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getFramesSent() {
+        return framesSent.sum();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long getFramesReceived() {
+        return framesReceived.sum();
+    }
+
+    /**
+     * Garbage lines sent between paired players in games that have ended.
+     */
+    public long getGarbageSent() {
+        return garbageSent.sum();
+    }
+
+    /**
+     * Stops accepting, ends every session and waits briefly for their threads.
+     */
+    @Override
+    public void close() throws IOException {
+        transport.close();
+        for (GameSession session : sessions) {
+            session.stop();
+        }
+        threads.shutdownNow();
+        try {
+            threads.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.comp2042.net;
+
+import com.comp2042.Board;
+import com.comp2042.BoardConfig;
+import com.comp2042.ClearRow;
+import com.comp2042.EventType;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.GarbageQueue;
+import com.comp2042.logic.GameListener;
+import com.comp2042.logic.GameLoop;
+import com.comp2042.logic.bricks.SplitMix64;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One player's game, run authoritatively on the server by its own virtual thread at the
+ * {@link GameLoop} tick rate. The player's inputs arrive as key presses and releases, so auto-repeat
+ * and lock delay behave exactly as in the local game. Every tick that changed something is sent as
+ * a {@link Protocol#STATE} frame to the player and to any opponent watching this board, carrying
+ * a {@link BoardDeltaEncoder} delta; a peer that joined later first gets a keyframe.
+ * <p>Frames go out through a bounded {@link Outbox} per peer, so a peer that stops reading never
+ * holds up the game. When its outbox is full the frame is dropped and the peer gets a keyframe
+ * once there is room; when a send fails the peer is dropped.
+ */
+final class GameSession implements GameListener {
+
+    //after a stall longer than this the loop drops the missed ticks instead of racing through them
+    private static final long MAX_LAG_NANOS = 250_000_000L;
+
+    //about a tenth of a second of frames at the tick rate
+    private static final int OUTBOX_FRAMES = 8;
+
+    private final GameServer server;
+    private final Connection player;
+    private final long seed;
+    private final GameEngine engine;
+    private final GameLoop loop;
+    private final BoardDeltaEncoder encoder;
+    private final GarbageQueue garbage = new GarbageQueue();
+    private final List<Peer> peers = new CopyOnWriteArrayList<>();
+    private final ByteBuffer frame;
+    private volatile boolean open = true;
+    private volatile boolean peersPending;
+    private volatile int received;
+
+    //written on the session thread only
+    private int ack;
+    private int sentAck;
+
+    GameSession(GameServer server, Connection player, long seed) {
+        this.server = server;
+        this.player = player;
+        this.seed = seed;
+        BoardConfig config = server.getBoardConfig();
+        Board board = new SimpleBoard(config, server.getGeneratorMode().create(seed, 1));
+        engine = new GameEngine(board);
+        engine.setListener(this);
+        loop = new GameLoop(engine, this::publish);
+        encoder = new BoardDeltaEncoder(config.getRows(), config.getColumns());
+        frame = ByteBuffer.allocate(Protocol.STATE_HEADER_BYTES + BoardDeltaEncoder.maxSize(config.getRows(), config.getColumns()));
+        peers.add(newPeer(player, 0));
+        peersPending = true;
+    }
+
+    /**
+     * Ticks the game until the session is stopped or the player's connection fails.
+     */
+    void run() {
+        long next = System.nanoTime();
+        try {
+            while (open && !Thread.currentThread().isInterrupted()) {
+                ack = received;
+                loop.tick();
+                if (peersPending) {
+                    peersPending = false;
+                    publish();
+                }
+                next += GameLoop.TICK_NANOS;
+                long wait;
+                while ((wait = next - System.nanoTime()) > 0 && open) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                }
+                if (-wait > MAX_LAG_NANOS) {
+                    next = System.nanoTime();
+                }
+            }
+        } finally {
+            server.onGarbageSent(engine.getGarbageSent());
+            stop();
+        }
+    }
+
+    /**
+     * Called on the player's reader thread only.
+     */
+    void input(EventType type, boolean pressed, int sequence) {
+        if (pressed) {
+            loop.getInput().press(type);
+        } else {
+            loop.getInput().release(type);
+        }
+        received = sequence;
+    }
+
+    void newGame() {
+        loop.newGame();
+    }
+
+    /**
+     * Sends this player's clears to the opponent as garbage; call before either session runs.
+     */
+    void setOpponent(GameSession opponent) {
+        //paired sessions share the seed, so both boards get the same holes as well as the same bricks
+        engine.setVersus(garbage, opponent.garbage, SplitMix64.mix(seed));
+    }
+
+    /**
+     * Streams this board to another connection as the given slot, starting with a full frame.
+     */
+    void addPeer(Connection connection, int slot) {
+        peers.add(newPeer(connection, slot));
+        peersPending = true;
+    }
+
+    private Peer newPeer(Connection connection, int slot) {
+        Outbox outbox = new Outbox(connection, server, OUTBOX_FRAMES, frame.capacity());
+        server.execute(outbox);
+        return new Peer(connection, slot, outbox);
+    }
+
+    void stop() {
+        if (open) {
+            open = false;
+            for (Peer peer : peers) {
+                peer.outbox.close();
+            }
+            server.onSessionStopped(this);
+        }
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    Connection getPlayer() {
+        return player;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void onBackgroundChanged(int[][] boardMatrix, int fromRow, int toRow) {
+        encoder.touchRows(fromRow, toRow);
+    }
+
+    @Override
+    public void onRowsCleared(ClearRow clearRow) {
+    }
+
+    /**
+     * Sends the delta to the peers that have the previous frame, then a keyframe to the new ones;
+     * in that order, so the delta is taken against what the synced peers actually hold.
+     */
+    private void publish() {
+        boolean encoded = false;
+        boolean changed = false;
+        boolean unsynced = false;
+        for (Peer peer : peers) {
+            if (!peer.synced) {
+                unsynced = true;
+                continue;
+            }
+            if (!encoded) {
+                changed = encode(false) || ack != sentAck;
+                encoded = true;
+            }
+            if (changed) {
+                //a dropped delta leaves the peer behind until a keyframe gets through
+                peer.synced = send(peer);
+            }
+        }
+        if (unsynced) {
+            encode(true);
+            for (Peer peer : peers) {
+                if (!peer.synced && send(peer)) {
+                    peer.synced = true;
+                }
+            }
+        }
+        sentAck = ack;
+    }
+
+    private boolean send(Peer peer) {
+        frame.put(1, (byte) peer.slot);
+        if (peer.outbox.isFailed()) {
+            drop(peer);
+            return false;
+        }
+        return peer.outbox.offer(frame.position(0));
+    }
+
+    private void drop(Peer peer) {
+        peers.remove(peer);
+        peer.outbox.close();
+        if (peer.connection == player) {
+            stop();
+        }
+    }
+
+    private boolean encode(boolean keyframe) {
+        frame.clear();
+        frame.put(Protocol.STATE);
+        frame.put((byte) 0);
+        frame.putShort((short) ack);
+        boolean changed = true;
+        if (keyframe) {
+            encoder.encodeKeyframe(frame, engine.getBoard(), engine.isGameOver());
+        } else {
+            changed = encoder.encode(frame, engine.getBoard(), engine.isGameOver());
+        }
+        frame.flip();
+        return changed;
+    }
+
+    private static final class Peer {
+
+        private final Connection connection;
+        private final int slot;
+        private final Outbox outbox;
+        private boolean synced;
+
+        private Peer(Connection connection, int slot, Outbox outbox) {
+            this.connection = connection;
+            this.slot = slot;
+            this.outbox = outbox;
+        }
+    }
+}
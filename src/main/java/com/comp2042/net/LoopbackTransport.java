@@ -0,0 +1,150 @@
+package com.comp2042.net;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * In-memory transport for tests and load runs on one machine: {@link #connect()} hands the client
+ * one end of a pair of bounded frame queues and queues the other end for {@link #accept()}. Frames
+ * are copied on send, so callers may reuse their buffers exactly as with sockets.
+ */
+public final class LoopbackTransport implements ServerTransport {
+
+    public static final int DEFAULT_QUEUE_FRAMES = 256;
+
+    private static final byte[] CLOSED = new byte[0];
+
+    private final BlockingQueue<End> pending = new LinkedBlockingQueue<>();
+    private final int queueFrames;
+    private volatile boolean closed;
+
+    public LoopbackTransport() {
+        this(DEFAULT_QUEUE_FRAMES);
+    }
+
+    /**
+     * @param queueFrames frames one side can send ahead of the other reading them before it blocks
+     */
+    public LoopbackTransport(int queueFrames) {
+        if (queueFrames < 1) {
+            throw new IllegalArgumentException("queueFrames must be positive, got " + queueFrames);
+        }
+        this.queueFrames = queueFrames;
+    }
+
+    /**
+     * Client side of a new connection; the server side turns up in {@link #accept()}.
+     */
+    public Connection connect() throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        Pipe toServer = new Pipe(queueFrames);
+        Pipe toClient = new Pipe(queueFrames);
+        pending.add(new End(toServer, toClient));
+        return new End(toClient, toServer);
+    }
+
+    @Override
+    public Connection accept() throws IOException {
+        try {
+            End end = pending.take();
+            if (end.in == null) {
+                pending.add(end);
+                throw new ClosedChannelException();
+            }
+            return end;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            pending.add(new End(null, null));
+        }
+    }
+
+    //a queue of frames in one direction; frames take a permit so the marker can always be added
+    private static final class Pipe {
+
+        private final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+        private final Semaphore space;
+        private volatile boolean closed;
+
+        private Pipe(int capacity) {
+            space = new Semaphore(capacity);
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                frames.add(CLOSED);
+                space.release(Integer.MAX_VALUE / 2);
+            }
+        }
+    }
+
+    private static final class End implements Connection {
+
+        private final Pipe in;
+        private final Pipe out;
+
+        private End(Pipe in, Pipe out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        @Override
+        public void send(ByteBuffer frame) throws IOException {
+            if (frame.remaining() > Protocol.MAX_FRAME) {
+                throw new IOException("frame of " + frame.remaining() + " bytes is too long");
+            }
+            byte[] copy = new byte[frame.remaining()];
+            frame.get(copy);
+            try {
+                if (!out.closed) {
+                    out.space.acquire();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (out.closed) {
+                throw new ClosedChannelException();
+            }
+            out.frames.add(copy);
+        }
+
+        @Override
+        public ByteBuffer receive() throws IOException {
+            byte[] frame;
+            try {
+                frame = in.frames.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            if (frame == CLOSED) {
+                in.frames.add(CLOSED);
+                return null;
+            }
+            in.space.release();
+            return ByteBuffer.wrap(frame);
+        }
+
+        @Override
+        public void close() {
+            out.close();
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded queue of frames to one connection, drained by its own sender thread, so a game thread
+ * never waits on a slow or stalled peer. The frame buffers are allocated once; {@link #offer}
+ * copies into a free one and fails instead of blocking when all of them are still queued.
+ */
+final class Outbox implements Runnable {
+
+    private static final ByteBuffer CLOSE = ByteBuffer.allocate(0);
+
+    private final Connection connection;
+    private final GameServer server;
+    private final BlockingQueue<ByteBuffer> free;
+    private final BlockingQueue<ByteBuffer> queued;
+    private volatile boolean failed;
+
+    Outbox(Connection connection, GameServer server, int frames, int frameSize) {
+        this.connection = connection;
+        this.server = server;
+        free = new ArrayBlockingQueue<>(frames);
+        //one spare slot so close() always fits
+        queued = new ArrayBlockingQueue<>(frames + 1);
+        for (int i = 0; i < frames; i++) {
+            free.add(ByteBuffer.allocate(frameSize));
+        }
+    }
+
+    /**
+     * Queues a copy of the bytes between the frame's position and limit.
+     *
+     * @return {@code false} when the peer is too far behind or has failed, so the frame was dropped
+     */
+    boolean offer(ByteBuffer frame) {
+        ByteBuffer copy = failed ? null : free.poll();
+        if (copy == null) {
+            return false;
+        }
+        copy.clear();
+        copy.put(frame.duplicate()).flip();
+        queued.add(copy);
+        return true;
+    }
+
+    /**
+     * Lets the sender finish the frames already queued and stop.
+     */
+    void close() {
+        queued.offer(CLOSE);
+    }
+
+    /**
+     * @return whether a send failed, after which the connection is no longer written to
+     */
+    boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public void run() {
+        try {
+            ByteBuffer frame;
+            while ((frame = queued.take()) != CLOSE) {
+                connection.send(frame);
+                server.onFrameSent(frame.limit());
+                free.add(frame);
+            }
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.comp2042.net;
+
+import com.comp2042.EventType;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Messages between {@link GameServer} and {@link GameClient}. Every message is one frame whose
+ * first byte is its type; stream transports prefix each frame with its length as an unsigned short.
+ *
+ * <pre>
+ * client to server
+ *   HELLO:    version, players (1 plays alone, 2 waits for an opponent)
+ *   INPUT:    event type ordinal, pressed (1) or released (0), sequence as unsigned short
+ *   NEW_GAME
+ *   BYE
+ * server to client
+ *   WELCOME:  slots, rows, columns, seed as 8 bytes
+ *   STATE:    slot, acknowledged input sequence as unsigned short, board delta as written by
+ *             {@link BoardDeltaEncoder}
+ *   shape:    color byte, cells as an unsigned short with bit (row * 4 + column)
+ * </pre>
+ *
+ * Slot 0 is the receiving player's own board and slot 1 the opponent's. The acknowledged sequence
+ * is the last input the server had received before the tick that produced the state.
+ */
+public final class Protocol {
+
+    public static final int VERSION = 2;
+    public static final int MAX_FRAME = 0xFFFF;
+
+    public static final byte HELLO = 0x01;
+    public static final byte INPUT = 0x02;
+    public static final byte NEW_GAME = 0x03;
+    public static final byte BYE = 0x04;
+
+    public static final byte WELCOME = (byte) 0x81;
+    public static final byte STATE = (byte) 0x82;
+
+    //type, slot and acknowledged sequence ahead of the board delta
+    static final int STATE_HEADER_BYTES = 4;
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final int SHAPE_SIZE = 4;
+
+    private Protocol() {
+    }
+
+    /**
+     * Packs a shape as its color in bits 16 to 23 and its cells in the low 16 bits, bit
+     * {@code row * 4 + column}; equal shapes pack to equal values.
+     */
+    static int packShape(BrickShape shape) {
+        if (shape.getRowCount() > SHAPE_SIZE || shape.getColumnCount() > SHAPE_SIZE) {
+            throw new IllegalArgumentException("shapes are sent as " + SHAPE_SIZE + "x" + SHAPE_SIZE + " at most");
+        }
+        int cells = 0;
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            cells |= 1 << shape.getCellRow(k) * SHAPE_SIZE + shape.getCellColumn(k);
+        }
+        return shape.getColor() << 16 | cells;
+    }
+
+    static void putShape(ByteBuffer buffer, int packed) {
+        buffer.put((byte) (packed >>> 16));
+        buffer.putShort((short) packed);
+    }
+
+    /**
+     * Writes a shape read by {@link #putShape} into a {@code 4x4} color matrix.
+     */
+    static void getShape(ByteBuffer buffer, int[][] matrix) {
+        int color = buffer.get() & 0xFF;
+        int cells = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < SHAPE_SIZE; i++) {
+            for (int j = 0; j < SHAPE_SIZE; j++) {
+                matrix[i][j] = (cells >>> i * SHAPE_SIZE + j & 1) != 0 ? color : 0;
+            }
+        }
+    }
+
+    static int[][] newShapeMatrix() {
+        return new int[SHAPE_SIZE][SHAPE_SIZE];
+    }
+
+    /**
+     * @throws IOException for an ordinal this build does not know
+     */
+    static EventType eventType(int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= TYPES.length) {
+            throw new IOException("unknown event type " + ordinal);
+        }
+        return TYPES[ordinal];
+    }
+
+    /**
+     * Turns a frame cut short into the {@link EOFException} a truncated stream would give.
+     */
+    static EOFException truncated(BufferUnderflowException e) {
+        EOFException eof = new EOFException("frame too short");
+        eof.initCause(e);
+        return eof;
+    }
+}
@@ -0,0 +1,182 @@
+package com.comp2042.net;
+
+import com.comp2042.VarInts;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Client-side copy of one board, rebuilt from the deltas of a {@link BoardDeltaEncoder}. It is only
+ * read and written by the thread receiving the frames.
+ */
+public final class RemoteBoard {
+
+    private final int rows;
+    private final int columns;
+    private final int[][] matrix;
+    private final int[][] brick = Protocol.newShapeMatrix();
+    private final int[][] next = Protocol.newShapeMatrix();
+    private final byte[] rowMask;
+    private final byte[] cellMasks;
+    private final int cellMaskBytes;
+    private boolean synced;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private long score;
+    private long lines;
+    private long level;
+    private long combo;
+    private boolean gameOver;
+    private long updates;
+
+    RemoteBoard(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        matrix = new int[rows][columns];
+        rowMask = new byte[(rows + 7) >>> 3];
+        cellMaskBytes = (columns + 7) >>> 3;
+        cellMasks = new byte[rows * cellMaskBytes];
+    }
+
+    /**
+     * Applies one encoded frame; every delta must follow on from the keyframe before it.
+     */
+    void apply(ByteBuffer frame) throws IOException {
+        try {
+            int flags = frame.get();
+            if ((flags & BoardDeltaEncoder.FLAG_KEYFRAME) != 0) {
+                for (int[] row : matrix) {
+                    Arrays.fill(row, 0);
+                }
+                synced = true;
+            } else if (!synced) {
+                throw new IOException("delta before the first keyframe");
+            }
+            gameOver = (flags & BoardDeltaEncoder.FLAG_GAME_OVER) != 0;
+            int fields = frame.get();
+            if ((fields & BoardDeltaEncoder.FIELD_ROWS) != 0) {
+                applyRows(frame);
+            }
+            if ((fields & BoardDeltaEncoder.FIELD_X) != 0) {
+                brickX = frame.get();
+            }
+            if ((fields & BoardDeltaEncoder.FIELD_Y) != 0) {
+                brickY = frame.get();
+            }
+            if ((fields & BoardDeltaEncoder.FIELD_GHOST_Y) != 0) {
+                ghostY = frame.get();
+            }
+            if ((fields & BoardDeltaEncoder.FIELD_BRICK) != 0) {
+                Protocol.getShape(frame, brick);
+            }
+            if ((fields & BoardDeltaEncoder.FIELD_NEXT) != 0) {
+                Protocol.getShape(frame, next);
+            }
+            if ((fields & BoardDeltaEncoder.FIELD_SCORE) != 0) {
+                score = VarInts.get(frame);
+                lines = VarInts.get(frame);
+                level = VarInts.get(frame);
+                combo = VarInts.get(frame);
+            }
+            updates++;
+        } catch (BufferUnderflowException e) {
+            throw Protocol.truncated(e);
+        }
+    }
+
+    private void applyRows(ByteBuffer frame) throws IOException {
+        frame.get(rowMask);
+        for (int i = 0; i < rows; i++) {
+            if ((rowMask[i >>> 3] & 1 << (i & 7)) != 0) {
+                frame.get(cellMasks, i * cellMaskBytes, cellMaskBytes);
+            }
+        }
+        long run = 0;
+        int color = 0;
+        for (int i = 0; i < rows; i++) {
+            if ((rowMask[i >>> 3] & 1 << (i & 7)) == 0) {
+                continue;
+            }
+            int[] row = matrix[i];
+            int maskOffset = i * cellMaskBytes;
+            for (int j = 0; j < columns; j++) {
+                if ((cellMasks[maskOffset + (j >>> 3)] & 1 << (j & 7)) != 0) {
+                    if (run == 0) {
+                        run = VarInts.get(frame);
+                        color = frame.get() & 0xFF;
+                        if (run <= 0) {
+                            throw new IOException("empty color run");
+                        }
+                    }
+                    row[j] = color;
+                    run--;
+                }
+            }
+        }
+        if (run != 0) {
+            throw new IOException("color run longer than the changed cells");
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int[][] getBoardMatrix() {
+        return matrix;
+    }
+
+    public int[][] getBrick() {
+        return brick;
+    }
+
+    public int[][] getNextBrick() {
+        return next;
+    }
+
+    public int getBrickX() {
+        return brickX;
+    }
+
+    public int getBrickY() {
+        return brickY;
+    }
+
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getLevel() {
+        return level;
+    }
+
+    public long getCombo() {
+        return combo;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Number of state frames applied so far.
+     */
+    public long getUpdates() {
+        return updates;
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Where a {@link GameServer} takes its incoming connections from.
+ */
+public interface ServerTransport extends Closeable {
+
+    /**
+     * Blocks until a client connects.
+     *
+     * @throws java.nio.channels.ClosedChannelException or another {@link IOException} once closed
+     */
+    Connection accept() throws IOException;
+}
@@ -0,0 +1,77 @@
+package com.comp2042.net;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Frames on a socket, each prefixed with its length as an unsigned short. Sends are serialized by a
+ * lock rather than {@code synchronized}, which would pin a virtual thread blocked in the write.
+ */
+final class SocketConnection implements Connection {
+
+    private final SocketChannel channel;
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final ByteBuffer sendHeader = ByteBuffer.allocate(Short.BYTES);
+    private final ByteBuffer[] gather = new ByteBuffer[2];
+    private final ByteBuffer receiveHeader = ByteBuffer.allocate(Short.BYTES);
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocate(Protocol.MAX_FRAME);
+
+    SocketConnection(SocketChannel channel) throws IOException {
+        this.channel = channel;
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        gather[0] = sendHeader;
+    }
+
+    @Override
+    public void send(ByteBuffer frame) throws IOException {
+        int length = frame.remaining();
+        if (length > Protocol.MAX_FRAME) {
+            throw new IOException("frame of " + length + " bytes is too long");
+        }
+        sendLock.lock();
+        try {
+            sendHeader.clear();
+            sendHeader.putShort((short) length).flip();
+            gather[1] = frame;
+            while (sendHeader.hasRemaining() || frame.hasRemaining()) {
+                channel.write(gather);
+            }
+        } finally {
+            gather[1] = null;
+            sendLock.unlock();
+        }
+    }
+
+    @Override
+    public ByteBuffer receive() throws IOException {
+        receiveHeader.clear();
+        if (!readFully(receiveHeader, true)) {
+            return null;
+        }
+        receiveBuffer.clear().limit(receiveHeader.getShort(0) & 0xFFFF);
+        readFully(receiveBuffer, false);
+        return receiveBuffer.flip();
+    }
+
+    //false only for a clean end of stream between frames
+    private boolean readFully(ByteBuffer buffer, boolean frameStart) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (frameStart && buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("connection closed inside a frame");
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
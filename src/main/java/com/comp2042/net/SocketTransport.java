@@ -0,0 +1,43 @@
+package com.comp2042.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * TCP transport over blocking NIO channels. Each connection is served by its own virtual thread,
+ * so blocking reads cost no platform thread.
+ */
+public final class SocketTransport implements ServerTransport {
+
+    private static final int BACKLOG = 1024;
+
+    private final ServerSocketChannel server;
+
+    /**
+     * @param address where to listen; port 0 picks a free one, see {@link #getAddress()}
+     */
+    public SocketTransport(InetSocketAddress address) throws IOException {
+        server = ServerSocketChannel.open();
+        server.bind(address, BACKLOG);
+    }
+
+    public static Connection connect(InetSocketAddress address) throws IOException {
+        return new SocketConnection(SocketChannel.open(address));
+    }
+
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    @Override
+    public Connection accept() throws IOException {
+        return new SocketConnection(server.accept());
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042.tools;
+
+import com.comp2042.BoardConfig;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.net.GameServer;
+import com.comp2042.net.SocketTransport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+/**
+ * Serves TCP clients until killed, printing traffic every ten seconds. Argument: port, plus,
+ * anywhere, the board options read by {@link BoardConfig#parse}.
+ */
+public final class GameServerMain {
+
+    private GameServerMain() {
+
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        BoardConfig board = BoardConfig.parse(Arrays.asList(args));
+        args = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toArray(String[]::new);
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        SocketTransport transport = new SocketTransport(new InetSocketAddress(port));
+        try (GameServer server = new GameServer(transport, board, BrickGeneratorMode.UNIFORM, System.nanoTime())) {
+            server.start();
+            System.out.println("listening on " + transport.getAddress());
+            while (true) {
+                Thread.sleep(10_000);
+                System.out.printf("sessions=%d frames out=%d (%d bytes) in=%d%n", server.getSessionCount(),
+                        server.getFramesSent(), server.getBytesSent(), server.getFramesReceived());
+            }
+        }
+    }
+}
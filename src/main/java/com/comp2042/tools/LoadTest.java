@@ -0,0 +1,110 @@
+package com.comp2042.tools;
+
+import com.comp2042.EventType;
+import com.comp2042.logic.bricks.SplitMix64;
+import com.comp2042.net.GameClient;
+import com.comp2042.net.GameServer;
+import com.comp2042.net.LoopbackTransport;
+import com.comp2042.net.SocketTransport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connects many simulated players to an in-process {@link GameServer}, each pressing a random key
+ * at a fixed interval, and reports the server's traffic and the players' input latency.
+ * <p>Arguments: clients, seconds, {@code loopback} or {@code socket}, players per game (1 or 2),
+ * milliseconds between inputs.
+ */
+public final class LoadTest {
+
+    private static final EventType[] KEYS = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.DOWN};
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        boolean socket = args.length > 2 && "socket".equals(args[2]);
+        int players = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        long intervalMillis = args.length > 4 ? Long.parseLong(args[4]) : 100;
+
+        LoopbackTransport loopback = socket ? null : new LoopbackTransport();
+        SocketTransport tcp = socket ? new SocketTransport(new InetSocketAddress("127.0.0.1", 0)) : null;
+        InetSocketAddress address = socket ? tcp.getAddress() : null;
+        LongAdder latencySamples = new LongAdder();
+        LongAdder latencyTotalNanos = new LongAdder();
+        LongAdder updates = new LongAdder();
+        LongAdder failures = new LongAdder();
+        long[] latencyMaxNanos = new long[1];
+
+        GameServer server = new GameServer(socket ? tcp : loopback);
+        int sessions;
+        //the sessions finish as the server closes, so the totals are read after the block
+        try (server; ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            for (int c = 0; c < clients; c++) {
+                int id = c;
+                threads.execute(() -> {
+                    try {
+                        Thread reader;
+                        try (GameClient client = new GameClient(socket ? SocketTransport.connect(address) : loopback.connect(), players)) {
+                            reader = Thread.ofVirtual().start(() -> {
+                                try {
+                                    while (client.receive()) {
+                                        //boards are only counted
+                                    }
+                                } catch (IOException e) {
+                                    //closing our own end at the deadline may interrupt the last receive
+                                    if (System.nanoTime() < deadline) {
+                                        failures.increment();
+                                    }
+                                }
+                                updates.add(client.getBoard(0).getUpdates());
+                                latencySamples.add(client.getLatencySamples());
+                                latencyTotalNanos.add(client.getLatencyTotalNanos());
+                                synchronized (latencyMaxNanos) {
+                                    latencyMaxNanos[0] = Math.max(latencyMaxNanos[0], client.getLatencyMaxNanos());
+                                }
+                            });
+                            SplitMix64 random = new SplitMix64(id);
+                            while (System.nanoTime() < deadline) {
+                                EventType key = KEYS[random.nextInt(KEYS.length)];
+                                client.press(key);
+                                client.release(key);
+                                Thread.sleep(intervalMillis);
+                            }
+                        }
+                        reader.join();
+                    } catch (IOException e) {
+                        failures.increment();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds) / 2);
+            sessions = server.getSessionCount();
+            threads.shutdown();
+            threads.awaitTermination(seconds + 30L, TimeUnit.SECONDS);
+        }
+        long samples = latencySamples.sum();
+        System.out.printf("%s: %d clients, %d sessions at mid-run, %d failures%n",
+                socket ? "socket" : "loopback", clients, sessions, failures.sum());
+        System.out.printf("server sent %,d frames (%,d frames/s, %,d bytes/s), received %,d%n",
+                server.getFramesSent(), server.getFramesSent() / seconds, server.getBytesSent() / seconds,
+                server.getFramesReceived());
+        System.out.printf("clients applied %,d own-board frames; input latency avg %.2f ms, max %.2f ms over %,d samples%n",
+                updates.sum(), samples == 0 ? 0.0 : latencyTotalNanos.sum() / 1e6 / samples,
+                latencyMaxNanos[0] / 1e6, samples);
+        if (players == 2) {
+            System.out.printf("garbage lines sent between players: %,d%n", server.getGarbageSent());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.tools;
+
+import com.comp2042.logic.replay.ReplayPlayer;
+import com.comp2042.logic.replay.ReplayReader;
+import com.comp2042.logic.sim.GameResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Replays each file given on the command line and prints its final state.
+ */
+public final class ReplayPlayerMain {
+
+    private ReplayPlayerMain() {
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            long start = System.nanoTime();
+            try (ReplayReader reader = new ReplayReader(Files.newInputStream(path))) {
+                GameResult result = ReplayPlayer.play(reader, ReplayPlayer.BIT_BOARD);
+                System.out.printf("%s: seed=%d score=%d lines=%d bricks=%d inputs=%d%s (%.2f ms)%n",
+                        path, result.getSeed(), result.getScore(), result.getLinesCleared(), result.getBricksPlaced(),
+                        result.getInputs(), result.isGameOver() ? " game over" : "", (System.nanoTime() - start) / 1_000_000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.tools;
+
+import com.comp2042.Board;
+import com.comp2042.logic.replay.ReplayArchive;
+import com.comp2042.logic.replay.ReplayHeader;
+import com.comp2042.logic.replay.ReplayPlayer;
+import com.comp2042.logic.replay.ReplayVerifier;
+import com.comp2042.logic.replay.VerificationReport;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.function.Function;
+
+/**
+ * Verifies a replay archive from the command line.
+ * Arguments: archive path, optional thread count, optional {@code simple} to replay on
+ * {@code SimpleBoard} instead of {@code BitBoard}. Exits with status 1 when any entry fails.
+ */
+public final class ReplayVerifierMain {
+
+    private ReplayVerifierMain() {
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Function<ReplayHeader, Board> boardFactory = args.length > 2 && "simple".equals(args[2])
+                ? ReplayPlayer.SIMPLE_BOARD
+                : ReplayPlayer.BIT_BOARD;
+        VerificationReport report;
+        try (ReplayArchive archive = ReplayArchive.open(Paths.get(args[0]))) {
+            report = ReplayVerifier.verify(archive, threads, boardFactory);
+        }
+        System.out.println(report);
+        report.getMismatches().stream().limit(20).forEach(System.out::println);
+        if (!report.isOk()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.tools;
+
+import com.comp2042.BitBoard;
+import com.comp2042.BoardConfig;
+import com.comp2042.logic.ai.AiPolicy;
+import com.comp2042.logic.ai.Heuristic;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.replay.ReplayArchiveWriter;
+import com.comp2042.logic.sim.RandomMovePolicy;
+import com.comp2042.logic.sim.SimulationRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Runs a batch of headless games from the command line and prints the summary.
+ * Arguments: {@code [games] [threads] [seed] [UNIFORM|BAG] [ai] [archive]}, where
+ * {@code archive} is a replay archive file to record every game into; plus, anywhere, the board
+ * options read by {@link BoardConfig#parse}.
+ */
+public final class SimulationMain {
+
+    private SimulationMain() {
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        BoardConfig board = BoardConfig.parse(Arrays.asList(args));
+        args = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toArray(String[]::new);
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        BrickGeneratorMode mode = args.length > 3 ? BrickGeneratorMode.valueOf(args[3]) : BrickGeneratorMode.UNIFORM;
+        boolean ai = args.length > 4 && "ai".equals(args[4]);
+        SimulationRunner runner = new SimulationRunner(threads, mode, generator -> new BitBoard(board, generator), 3, 10_000);
+        ReplayArchiveWriter archive = args.length > 5 ? new ReplayArchiveWriter(Files.newOutputStream(Paths.get(args[5]))) : null;
+        runner.recordTo(archive);
+        try {
+            System.out.println(runner.run(games, seed, ai
+                    ? gameSeed -> new AiPolicy(Heuristic.DEFAULT, true)
+                    : RandomMovePolicy::new));
+        } finally {
+            runner.shutdown();
+            if (archive != null) {
+                archive.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardConfigTest {
+
+    @Test
+    void defaultKeepsTheClassicBoard() {
+        assertEquals(new BoardConfig(25, 10, 2, 4, 10), BoardConfig.DEFAULT);
+        assertEquals(BoardConfig.DEFAULT, BoardConfig.parse(List.of("--canvas", "--bitboard")));
+    }
+
+    @Test
+    void parseKeepsTheDefaultsForWhateverIsNotGiven() {
+        assertEquals(BoardConfig.of(40, 17), BoardConfig.parse(List.of("--rows=40", "--columns=17")));
+        assertEquals(new BoardConfig(25, 10, 0, 2, 3),
+                BoardConfig.parse(List.of("--hidden-rows=0", "--spawn=2,3")));
+    }
+
+    @Test
+    void smallBoardsMoveTheSpawnInside() {
+        BoardConfig config = BoardConfig.of(6, 4);
+        assertEquals(0, config.getSpawnX());
+        assertEquals(2, config.getSpawnY());
+        assertEquals(4, config.getVisibleRows());
+    }
+
+    @Test
+    void rejectsBoardsThatCannotBePlayed() {
+        assertThrows(IllegalArgumentException.class, () -> BoardConfig.of(3, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BoardConfig(25, 10, 25, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BoardConfig(25, 10, 2, 7, 10));
+        assertThrows(IllegalArgumentException.class, () -> BoardConfig.parse(List.of("--rows=many")));
+        assertThrows(IllegalArgumentException.class, () -> BoardConfig.parse(List.of("--spawn=4")));
+    }
+}
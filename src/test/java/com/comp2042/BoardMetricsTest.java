@@ -0,0 +1,87 @@
+package com.comp2042;
+
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.GarbageQueue;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.bricks.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoardMetricsTest {
+
+    private static final EventType[] INPUTS = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.HARD_DROP};
+
+    @Test
+    void incrementalMetricsMatchAFullRecount() {
+        for (long seed = 1; seed <= 10; seed++) {
+            for (boolean bitBoard : new boolean[]{false, true}) {
+                int rows = 20 + (int) seed;
+                int columns = 8 + (int) seed % 4;
+                Board board = bitBoard
+                        ? new BitBoard(rows, columns, BrickGeneratorMode.UNIFORM.create(seed, 1))
+                        : new SimpleBoard(rows, columns, BrickGeneratorMode.UNIFORM.create(seed, 1));
+                GameEngine engine = new GameEngine(board);
+                GarbageQueue garbage = new GarbageQueue();
+                engine.setVersus(garbage, new GarbageQueue(), seed);
+                SplitMix64 random = new SplitMix64(seed);
+                for (int step = 0; step < 3000; step++) {
+                    if (random.nextInt(20) == 0) {
+                        //large batches also cover the overflow path
+                        garbage.push(1 + random.nextInt(6));
+                    }
+                    engine.handle(new MoveEvent(INPUTS[random.nextInt(INPUTS.length)], EventSource.USER));
+                    assertMatchesRecount(board, "seed " + seed + " step " + step);
+                    if (engine.isGameOver()) {
+                        engine.newGame();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void garbageRowsCountAsFilledExceptTheHole() {
+        SimpleBoard board = new SimpleBoard(10, 6);
+        board.newGame();
+        board.addGarbageRows(2, 4);
+        BoardMetrics metrics = board.getMetrics();
+        assertEquals(10, metrics.getCellCount());
+        assertEquals(5, metrics.getRowFill(9));
+        assertEquals(10, metrics.getColumnTop(4));
+        assertEquals(8, metrics.getColumnTop(0));
+        assertEquals(2, metrics.getMaxHeight());
+        assertEquals(0, metrics.getHoleCount());
+        assertMatchesRecount(board, "after garbage");
+    }
+
+    private static void assertMatchesRecount(Board board, String where) {
+        BoardMetrics actual = board.getMetrics();
+        int[][] matrix = board.getBoardMatrix();
+        int cells = 0;
+        int aggregateHeight = 0;
+        int holes = 0;
+        for (int i = 0; i < actual.getRows(); i++) {
+            int fill = 0;
+            for (int cell : matrix[i]) {
+                fill += cell != 0 ? 1 : 0;
+            }
+            assertEquals(fill, actual.getRowFill(i), where + ", fill of row " + i);
+            cells += fill;
+        }
+        for (int j = 0; j < actual.getColumns(); j++) {
+            int top = 0;
+            while (top < actual.getRows() && matrix[top][j] == 0) {
+                top++;
+            }
+            assertEquals(top, actual.getColumnTop(j), where + ", top of column " + j);
+            aggregateHeight += actual.getRows() - top;
+            for (int i = top; i < actual.getRows(); i++) {
+                holes += matrix[i][j] == 0 ? 1 : 0;
+            }
+        }
+        assertEquals(aggregateHeight, actual.getAggregateHeight(), where);
+        assertEquals(cells, actual.getCellCount(), where);
+        assertEquals(holes, actual.getHoleCount(), where);
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.bricks.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardParityTest {
+
+    @Test
+    void bitBoardPlaysSeededGamesExactlyLikeSimpleBoard() {
+        for (long seed = 1; seed <= 20; seed++) {
+            BrickGeneratorMode mode = seed % 2 == 0 ? BrickGeneratorMode.BAG : BrickGeneratorMode.UNIFORM;
+            Board simple = new SimpleBoard(25, 10, mode.create(seed, 1));
+            Board bit = new BitBoard(25, 10, mode.create(seed, 1));
+            simple.newGame();
+            bit.newGame();
+            SplitMix64 random = new SplitMix64(seed);
+            for (int step = 0; step < 5000; step++) {
+                String where = "seed " + seed + " step " + step;
+                switch (random.nextInt(4)) {
+                    case 0 -> assertEquals(simple.moveBrickLeft(), bit.moveBrickLeft(), where);
+                    case 1 -> assertEquals(simple.moveBrickRight(), bit.moveBrickRight(), where);
+                    case 2 -> assertEquals(simple.rotateLeftBrick(), bit.rotateLeftBrick(), where);
+                    default -> {
+                        boolean moved = simple.moveBrickDown();
+                        assertEquals(moved, bit.moveBrickDown(), where);
+                        if (!moved) {
+                            simple.mergeBrickToBackground();
+                            bit.mergeBrickToBackground();
+                            ClearRow simpleClear = simple.clearRows();
+                            ClearRow bitClear = bit.clearRows();
+                            assertEquals(simpleClear.getLinesRemoved(), bitClear.getLinesRemoved(), where);
+                            for (int k = 0; k < simpleClear.getLinesRemoved(); k++) {
+                                assertEquals(simpleClear.getClearedRow(k), bitClear.getClearedRow(k), where);
+                            }
+                            boolean gameOver = false;
+                            if (random.nextInt(4) == 0) {
+                                //garbage goes in between the lock and the next spawn, as in versus play
+                                int lines = 1 + random.nextInt(4);
+                                int hole = random.nextInt(10);
+                                gameOver = simple.addGarbageRows(lines, hole);
+                                assertEquals(gameOver, bit.addGarbageRows(lines, hole), where);
+                                assertArrayEquals(simple.getBoardMatrix(), bit.getBoardMatrix(), where);
+                            }
+                            if (!gameOver) {
+                                gameOver = simple.createNewBrick();
+                                assertEquals(gameOver, bit.createNewBrick(), where);
+                            }
+                            if (gameOver) {
+                                simple.newGame();
+                                bit.newGame();
+                            }
+                        }
+                    }
+                }
+                assertSameState(simple, bit, where);
+            }
+        }
+    }
+
+    @Test
+    void bothBoardsRejectGarbageHolesOutsideTheBoard() {
+        Board[] boards = {new SimpleBoard(25, 10), new BitBoard(25, 10)};
+        for (Board board : boards) {
+            board.newGame();
+            assertThrows(IllegalArgumentException.class, () -> board.addGarbageRows(1, 10));
+            assertThrows(IllegalArgumentException.class, () -> board.addGarbageRows(1, -1));
+            assertThrows(IllegalArgumentException.class, () -> board.addGarbageRows(-1, 0));
+            assertEquals(0, board.getMetrics().getCellCount());
+        }
+    }
+
+    private static void assertSameState(Board expected, Board actual, String where) {
+        assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix(), where);
+        ViewData e = expected.getViewData();
+        ViewData a = actual.getViewData();
+        assertArrayEquals(e.getBrickData(), a.getBrickData(), where);
+        assertEquals(e.getxPosition(), a.getxPosition(), where);
+        assertEquals(e.getyPosition(), a.getyPosition(), where);
+        assertEquals(e.getGhostYPosition(), a.getGhostYPosition(), where);
+        assertArrayEquals(e.getNextBrickData(), a.getNextBrickData(), where);
+        assertEquals(expected.getChangedFromRow(), actual.getChangedFromRow(), where);
+        assertEquals(expected.getChangedToRow(), actual.getChangedToRow(), where);
+    }
+}
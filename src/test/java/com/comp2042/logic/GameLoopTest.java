@@ -0,0 +1,91 @@
+package com.comp2042.logic;
+
+import com.comp2042.BitBoard;
+import com.comp2042.EventType;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameLoopTest {
+
+    //wide enough that a held key never reaches the wall during the test
+    private static GameEngine wideGame() {
+        return new GameEngine(new BitBoard(25, 30, BrickGeneratorMode.UNIFORM.create(1, 1)));
+    }
+
+    private static int[] heldRight(GameLoop loop, GameEngine engine, int ticks) {
+        int[] x = new int[ticks];
+        loop.getInput().press(EventType.RIGHT);
+        for (int t = 0; t < ticks; t++) {
+            loop.tick();
+            x[t] = engine.getBoard().getBrickX();
+        }
+        return x;
+    }
+
+    @Test
+    void heldKeyMovesOnPressThenAfterDasEveryArr() {
+        GameEngine engine = wideGame();
+        GameLoop loop = new GameLoop(engine, () -> {
+        });
+        loop.setAutoRepeat(3, 2);
+        int start = engine.getBoard().getBrickX();
+
+        int[] x = heldRight(loop, engine, 9);
+
+        //press on the first tick, repeats once the key has been held past DAS, then every ARR ticks
+        int[] moves = {1, 1, 1, 2, 2, 3, 3, 4, 4};
+        for (int t = 0; t < x.length; t++) {
+            assertEquals(start + moves[t], x[t], "x after tick " + (t + 1));
+        }
+    }
+
+    @Test
+    void releaseStopsTheRepeat() {
+        GameEngine engine = wideGame();
+        GameLoop loop = new GameLoop(engine, () -> {
+        });
+        loop.setAutoRepeat(2, 1);
+        int start = engine.getBoard().getBrickX();
+
+        heldRight(loop, engine, 4);
+        loop.getInput().release(EventType.RIGHT);
+        for (int t = 0; t < 5; t++) {
+            loop.tick();
+        }
+
+        assertEquals(start + 3, engine.getBoard().getBrickX());
+    }
+
+    @Test
+    void zeroArrSlidesToTheWallOnceDasRunsOut() {
+        GameEngine engine = new GameEngine(new BitBoard(25, 10, BrickGeneratorMode.UNIFORM.create(1, 1)));
+        GameLoop loop = new GameLoop(engine, () -> {
+        });
+        loop.setAutoRepeat(2, 0);
+        int start = engine.getBoard().getBrickX();
+
+        int[] x = heldRight(loop, engine, 3);
+
+        assertEquals(start + 1, x[1]);
+        int wall = x[2];
+        loop.tick();
+        assertEquals(wall, engine.getBoard().getBrickX());
+        assertEquals(10, wall + engine.getBoard().getBrickShape().getMatrix()[0].length
+                - emptyRightColumns(engine.getBoard().getBrickShape().getMatrix()));
+    }
+
+    private static int emptyRightColumns(int[][] shape) {
+        int empty = 0;
+        for (int c = shape[0].length - 1; c >= 0; c--) {
+            for (int[] row : shape) {
+                if (row[c] != 0) {
+                    return empty;
+                }
+            }
+            empty++;
+        }
+        return empty;
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GarbageQueueTest {
+
+    @Test
+    void offsetCancelsTheOldestBatchesFirst() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.push(2);
+        queue.push(3);
+        assertEquals(0, queue.offset(4));
+        assertEquals(1, queue.getPending());
+        assertEquals(1, queue.poll(8));
+        assertEquals(0, queue.getPending());
+    }
+
+    @Test
+    void offsetReturnsWhatIsLeftOfTheAttack() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.push(2);
+        assertEquals(3, queue.offset(5));
+        assertEquals(0, queue.getPending());
+        assertEquals(4, queue.offset(4));
+    }
+
+    @Test
+    void pollTakesAtMostOneBatch() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.push(3);
+        queue.push(2);
+        assertEquals(3, queue.poll(8));
+        assertEquals(2, queue.poll(8));
+        assertEquals(0, queue.poll(8));
+    }
+
+    @Test
+    void pollLeavesTheRestOfALargeBatchQueued() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.push(6);
+        queue.push(1);
+        assertEquals(4, queue.poll(4));
+        assertEquals(3, queue.getPending());
+        assertEquals(2, queue.poll(4));
+        assertEquals(1, queue.poll(4));
+        assertEquals(0, queue.poll(0));
+    }
+
+    @Test
+    void batchesBeyondCapacityJoinTheNewest() {
+        GarbageQueue queue = new GarbageQueue(2);
+        queue.push(1);
+        queue.push(2);
+        queue.push(3);
+        assertEquals(6, queue.getPending());
+        assertEquals(1, queue.poll(10));
+        assertEquals(5, queue.poll(10));
+    }
+
+    @Test
+    void wrapsAroundTheRing() {
+        GarbageQueue queue = new GarbageQueue(3);
+        for (int lines = 1; lines <= 20; lines++) {
+            queue.push(lines);
+            queue.push(1);
+            assertEquals(lines, queue.poll(lines));
+            assertEquals(0, queue.offset(1));
+        }
+        assertEquals(0, queue.getPending());
+    }
+
+    @Test
+    void ignoresEmptyPushesAndClears() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.push(0);
+        queue.push(-2);
+        assertEquals(0, queue.getPending());
+        queue.push(4);
+        queue.clear();
+        assertEquals(0, queue.poll(8));
+        assertThrows(IllegalArgumentException.class, () -> new GarbageQueue(0));
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.logic;
+
+import com.comp2042.EventType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputBufferTest {
+
+    @Test
+    void pressesComeOutInOrder() {
+        InputBuffer input = new InputBuffer(8);
+        input.press(EventType.LEFT);
+        input.press(EventType.ROTATE);
+        input.release(EventType.LEFT);
+        input.press(EventType.LEFT);
+
+        assertEquals(EventType.LEFT, input.poll());
+        assertEquals(EventType.ROTATE, input.poll());
+        assertEquals(EventType.LEFT, input.poll());
+        assertNull(input.poll());
+    }
+
+    @Test
+    void repeatOfAHeldKeyIsDropped() {
+        InputBuffer input = new InputBuffer(8);
+        assertTrue(input.press(EventType.RIGHT));
+        assertFalse(input.press(EventType.RIGHT));
+        assertTrue(input.isHeld(EventType.RIGHT));
+
+        input.release(EventType.RIGHT);
+        assertFalse(input.isHeld(EventType.RIGHT));
+        assertTrue(input.press(EventType.RIGHT));
+        assertEquals(EventType.RIGHT, input.poll());
+        assertEquals(EventType.RIGHT, input.poll());
+        assertNull(input.poll());
+        assertEquals(0, input.getDropped());
+    }
+
+    @Test
+    void fullBufferDropsPressesButKeepsThemHeld() {
+        //rounded up to a power of two
+        InputBuffer input = new InputBuffer(3);
+        EventType[] types = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.HARD_DROP, EventType.DOWN};
+        for (EventType type : types) {
+            input.press(type);
+        }
+
+        assertEquals(1, input.getDropped());
+        assertTrue(input.isHeld(EventType.DOWN));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(types[i], input.poll());
+        }
+        assertNull(input.poll());
+    }
+
+    @Test
+    void clearKeepsKeysHeld() {
+        InputBuffer input = new InputBuffer(4);
+        input.press(EventType.LEFT);
+        input.clear();
+
+        assertNull(input.poll());
+        assertTrue(input.isHeld(EventType.LEFT));
+    }
+
+    @Test
+    void rejectsBadCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new InputBuffer(0));
+        assertThrows(IllegalArgumentException.class, () -> new InputBuffer((1 << 16) + 1));
+    }
+}
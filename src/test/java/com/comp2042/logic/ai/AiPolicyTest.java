@@ -0,0 +1,63 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.Board;
+import com.comp2042.EventType;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiPolicyTest {
+
+    @Test
+    void reachesThePlannedSpotDespiteGravityAndStrayInputs() {
+        for (long seed = 1; seed <= 30; seed++) {
+            Board planned = newBoard(seed);
+            AiPolicy policy = new AiPolicy(Heuristic.DEFAULT, true);
+            policy.onBrickSpawned(planned);
+            steer(policy, planned, false);
+
+            Board drifted = newBoard(seed);
+            AiPolicy drifting = new AiPolicy(Heuristic.DEFAULT, true);
+            drifting.onBrickSpawned(drifted);
+            while (drifted.moveBrickLeft()) {
+                //shoved off plan after planning
+            }
+            steer(drifting, drifted, true);
+
+            assertSame(planned.getBrickShape(), drifted.getBrickShape(), "seed " + seed);
+            assertEquals(planned.getBrickX(), drifted.getBrickX(), "seed " + seed);
+            assertTrue(drifted.getBrickY() >= planned.getBrickY(), "seed " + seed);
+        }
+    }
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(25, 10, BrickGeneratorMode.BAG.create(seed, 1));
+        board.newGame();
+        return board;
+    }
+
+    //applies the policy's inputs until it asks for a drop, optionally with gravity after every input
+    private static void steer(AiPolicy policy, Board board, boolean gravity) {
+        for (int i = 0; i < 50; i++) {
+            EventType move = policy.nextMove(board);
+            if (move == EventType.DOWN) {
+                return;
+            }
+            if (move == EventType.ROTATE) {
+                board.rotateLeftBrick();
+            } else if (move == EventType.LEFT) {
+                board.moveBrickLeft();
+            } else if (move == EventType.RIGHT) {
+                board.moveBrickRight();
+            }
+            if (gravity) {
+                board.moveBrickDown();
+            }
+        }
+        throw new AssertionError("policy never asked for a drop");
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BagBrickGenerator;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelLookaheadSearchTest {
+
+    private static final long NO_DEADLINE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void answerDoesNotDependOnTheNumberOfThreads() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            ParallelLookaheadSearch a = new ParallelLookaheadSearch(Heuristic.DEFAULT, single, null);
+            ParallelLookaheadSearch b = new ParallelLookaheadSearch(Heuristic.DEFAULT, several, null);
+            for (long seed = 1; seed <= 10; seed++) {
+                BoardState board = randomStack(seed);
+                Brick[] bricks = bricks(seed, 3);
+                Brick[] preview = {bricks[1], bricks[2]};
+                Placement expected = a.findBest(board, bricks[0], 4, 2, preview, NO_DEADLINE);
+                Placement actual = b.findBest(board, bricks[0], 4, 2, preview, NO_DEADLINE);
+                assertSamePlacement(expected, actual, "seed " + seed);
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    void searchesTheWholePreviewWhenTimeAllows() {
+        ParallelLookaheadSearch search = new ParallelLookaheadSearch(Heuristic.DEFAULT);
+        Brick[] bricks = bricks(7, 3);
+        search.findBest(randomStack(7), bricks[0], 4, 2, new Brick[]{bricks[1], bricks[2]}, NO_DEADLINE);
+        assertEquals(3, search.getLastStats().getDepth());
+        assertFalse(search.getLastStats().isTimedOut());
+    }
+
+    @Test
+    void oneBrickPreviewMatchesThePlacementSearch() {
+        ParallelLookaheadSearch lookahead = new ParallelLookaheadSearch(Heuristic.DEFAULT);
+        PlacementSearch search = new PlacementSearch(Heuristic.DEFAULT);
+        for (long seed = 1; seed <= 10; seed++) {
+            BoardState board = randomStack(seed);
+            Brick[] bricks = bricks(seed, 2);
+            assertSamePlacement(search.findBest(board, bricks[0], 4, 2, bricks[1]),
+                    lookahead.findBest(board, bricks[0], 4, 2, new Brick[]{bricks[1]}, NO_DEADLINE), "seed " + seed);
+        }
+    }
+
+    @Test
+    void sharedTableGivesTheSameAnswersAsNoTable() {
+        TranspositionTable table = new TranspositionTable(1 << 16);
+        ParallelLookaheadSearch cached = new ParallelLookaheadSearch(Heuristic.DEFAULT, ForkJoinPool.commonPool(), table);
+        ParallelLookaheadSearch uncached = new ParallelLookaheadSearch(Heuristic.DEFAULT);
+        for (long seed = 1; seed <= 10; seed++) {
+            BoardState board = randomStack(seed);
+            Brick[] bricks = bricks(seed, 8);
+            //same board and next brick, different bricks after it: only the queue tells the subtrees apart
+            for (int last = 2; last < bricks.length; last++) {
+                Brick[] preview = {bricks[1], bricks[last]};
+                assertSamePlacement(uncached.findBest(board, bricks[0], 4, 2, preview, NO_DEADLINE),
+                        cached.findBest(board, bricks[0], 4, 2, preview, NO_DEADLINE), "seed " + seed + " last " + last);
+                Brick[] spawnedLower = {bricks[1], bricks[last]};
+                assertSamePlacement(uncached.findBest(board, bricks[0], 4, 3, spawnedLower, NO_DEADLINE),
+                        cached.findBest(board, bricks[0], 4, 3, spawnedLower, NO_DEADLINE), "seed " + seed + " last " + last);
+            }
+        }
+        assertTrue(table.getHits() > 0);
+    }
+
+    static void assertSamePlacement(Placement expected, Placement actual, String where) {
+        assertEquals(expected.getRotation(), actual.getRotation(), where);
+        assertEquals(expected.getX(), actual.getX(), where);
+        assertEquals(expected.getY(), actual.getY(), where);
+        assertEquals(expected.getScore(), actual.getScore(), where);
+    }
+
+    //a ragged stack with holes in the bottom third of a 25x10 board
+    static BoardState randomStack(long seed) {
+        SplitMix64 random = new SplitMix64(seed);
+        int[][] matrix = new int[25][10];
+        for (int i = 16; i < 25; i++) {
+            for (int j = 0; j < 10; j++) {
+                matrix[i][j] = random.nextInt(3) == 0 ? 0 : 1;
+            }
+            matrix[i][random.nextInt(10)] = 0;
+        }
+        return BoardState.of(matrix);
+    }
+
+    static Brick[] bricks(long seed, int count) {
+        BrickGenerator generator = new BagBrickGenerator(seed);
+        Brick[] bricks = new Brick[count];
+        for (int i = 0; i < count; i++) {
+            bricks[i] = generator.getBrick();
+        }
+        return bricks;
+    }
+}
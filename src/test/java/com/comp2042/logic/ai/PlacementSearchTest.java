@@ -0,0 +1,67 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BagBrickGenerator;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PlacementSearchTest {
+
+    @Test
+    void dropsTheLongBrickIntoTheWellForFourLines() {
+        int[][] matrix = new int[25][10];
+        for (int i = 21; i < 25; i++) {
+            for (int j = 0; j < 9; j++) {
+                matrix[i][j] = 1;
+            }
+        }
+        Brick brick = longBrick();
+        Placement best = new PlacementSearch(Heuristic.DEFAULT).findBest(BoardState.of(matrix), brick, 4, 10, null);
+        assertEquals(4, best.getLinesCleared());
+        BrickShape shape = brick.getShapes().get(best.getRotation());
+        assertEquals(9, best.getX() + shape.getMinColumn());
+        assertEquals(9, best.getX() + shape.getMaxColumn());
+    }
+
+    @Test
+    void findsNothingWhenTheBrickCannotSpawn() {
+        int[][] matrix = new int[25][10];
+        for (int[] row : matrix) {
+            Arrays.fill(row, 1);
+        }
+        assertNull(new PlacementSearch(Heuristic.DEFAULT).findBest(BoardState.of(matrix), longBrick(), 4, 10, null));
+    }
+
+    @Test
+    void boardStateDropsAndClearsLikeTheMatrix() {
+        int[][] matrix = new int[25][10];
+        for (int j = 1; j < 10; j++) {
+            matrix[24][j] = 1;
+        }
+        BoardState state = BoardState.of(matrix);
+        BrickShape upright = longBrick().getShapes().get(1);
+        int x = -upright.getMinColumn();
+        int y = state.dropY(upright, x, 0);
+        assertEquals(24, y + upright.getMaxRow());
+        assertEquals(1, state.place(upright, x, y));
+        assertEquals(1L, state.getRow(24));
+        assertEquals(0L, state.getRow(20));
+    }
+
+    static Brick longBrick() {
+        BrickGenerator generator = new BagBrickGenerator(1);
+        while (true) {
+            Brick brick = generator.getBrick();
+            BrickShape flat = brick.getShapes().get(0);
+            if (flat.getMaxColumn() - flat.getMinColumn() == 3) {
+                return brick;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranspositionTableTest {
+
+    @Test
+    void returnsStoredScoresAndMissesOtherKeys() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.put(0x1234_5678_9ABC_DEF0L, -12.5);
+        assertEquals(-12.5, table.get(0x1234_5678_9ABC_DEF0L));
+        //same slot, different key
+        assertTrue(Double.isNaN(table.get(0x0234_5678_9ABC_DEF0L)));
+        assertTrue(Double.isNaN(table.get(42L)));
+        assertEquals(1L, table.getHits());
+        assertEquals(2L, table.getMisses());
+    }
+
+    @Test
+    void laterStoreReplacesTheSlot() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.put(0x10L, 1.0);
+        table.put(0x20L, 2.0);
+        assertTrue(Double.isNaN(table.get(0x10L)));
+        assertEquals(2.0, table.get(0x20L));
+        table.clear();
+        assertTrue(Double.isNaN(table.get(0x20L)));
+    }
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(16, new TranspositionTable(9).getCapacity());
+        assertEquals(1, new TranspositionTable(1).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+}
@@ -0,0 +1,31 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ZobristHashTest {
+
+    @Test
+    void boardStateAndMatrixHashAlike() {
+        int[][] matrix = new int[25][10];
+        matrix[24][0] = 3;
+        matrix[24][9] = 7;
+        matrix[20][4] = 1;
+        ZobristHash zobrist = new ZobristHash(25, 10);
+        assertEquals(zobrist.hash(matrix), zobrist.hash(BoardState.of(matrix)));
+        assertEquals(zobrist.hash(matrix), new ZobristHash(25, 10).hash(matrix));
+    }
+
+    @Test
+    void queueKeyDependsOnTheOrderAndLengthOfTheQueue() {
+        ZobristHash zobrist = new ZobristHash(25, 10);
+        Brick[] bricks = ParallelLookaheadSearchTest.bricks(1, 3);
+        Brick[] swapped = {bricks[1], bricks[0], bricks[2]};
+        assertNotEquals(zobrist.queueKey(bricks, 0, 2), zobrist.queueKey(swapped, 0, 2));
+        assertNotEquals(zobrist.queueKey(bricks, 0, 2), zobrist.queueKey(bricks, 0, 3));
+        assertEquals(zobrist.queueKey(bricks, 1, 3), new ZobristHash(25, 10).queueKey(bricks, 1, 3));
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BagBrickGeneratorTest {
+
+    @Test
+    void everyBagOfSevenHoldsEachBrickOnce() {
+        BrickGenerator generator = new BagBrickGenerator(3);
+        for (int bag = 0; bag < 100; bag++) {
+            Set<Brick> seen = new HashSet<>();
+            for (int i = 0; i < Bricks.ALL.size(); i++) {
+                seen.add(generator.getBrick());
+            }
+            assertEquals(new HashSet<>(Bricks.ALL), seen, "bag " + bag);
+        }
+    }
+
+    @Test
+    void sameSeedDealsTheSameBricks() {
+        for (BrickGeneratorMode mode : BrickGeneratorMode.values()) {
+            BrickGenerator a = mode.create(99, 3);
+            BrickGenerator b = mode.create(99, 3);
+            for (int i = 0; i < 500; i++) {
+                assertSame(a.getBrick(), b.getBrick(), mode + " brick " + i);
+            }
+        }
+    }
+
+    @Test
+    void previewShowsTheBricksThatAreDealtNext() {
+        BrickGenerator generator = new BagBrickGenerator(11, 5);
+        assertEquals(5, generator.getPreviewSize());
+        for (int i = 0; i < 50; i++) {
+            Brick[] preview = new Brick[5];
+            for (int k = 0; k < preview.length; k++) {
+                preview[k] = generator.peekBrick(k);
+            }
+            assertSame(preview[0], generator.getNextBrick());
+            for (Brick expected : preview) {
+                assertSame(expected, generator.getBrick());
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peekBrick(5));
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SplitMix64Test {
+
+    @Test
+    void matchesTheReferenceSequence() {
+        SplitMix64 random = new SplitMix64(0);
+        assertEquals(0xE220A8397B1DCDAFL, random.nextLong());
+        assertEquals(0x6E789E6AA1B965F4L, random.nextLong());
+        assertEquals(0x06C45D188009454FL, random.nextLong());
+    }
+
+    @Test
+    void sameSeedGivesTheSameSequence() {
+        SplitMix64 a = new SplitMix64(42);
+        SplitMix64 b = new SplitMix64(42);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    void nextIntStaysInBounds() {
+        SplitMix64 random = new SplitMix64(7);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70_000; i++) {
+            int value = random.nextInt(7);
+            assertTrue(value >= 0 && value < 7, "value " + value);
+            counts[value]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "count " + count);
+        }
+    }
+
+    @Test
+    void splitStreamsDoNotShareState() {
+        SplitMix64 parent = new SplitMix64(5);
+        SplitMix64 child = parent.split();
+        SplitMix64 replayedParent = new SplitMix64(5);
+        replayedParent.nextLong();
+        for (int i = 0; i < 100; i++) {
+            child.nextLong();
+        }
+        assertEquals(replayedParent.nextLong(), parent.nextLong());
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.BoardConfig;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.sim.GameResult;
+import com.comp2042.logic.sim.MovePolicy;
+import com.comp2042.logic.sim.RandomMovePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayRoundTripTest {
+
+    @Test
+    void recordedGamesReplayToTheSameResultOnBothBoards() throws IOException {
+        for (long seed = 1; seed <= 10; seed++) {
+            BrickGeneratorMode mode = seed % 2 == 0 ? BrickGeneratorMode.BAG : BrickGeneratorMode.UNIFORM;
+            //a spawn away from the default only replays right if the header carries it
+            BoardConfig config = seed % 3 == 0 ? new BoardConfig(30, 12, 3, 6, 2) : BoardConfig.DEFAULT;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            GameEngine engine = record(bytes, new ReplayHeader(seed, mode, config), new RandomMovePolicy(seed));
+            byte[] data = bytes.toByteArray();
+            assertTrue(engine.getBricksPlaced() > 0);
+
+            GameResult fromStream = ReplayPlayer.play(new ReplayReader(new ByteArrayInputStream(data)), ReplayPlayer.SIMPLE_BOARD);
+            GameResult fromBuffer = ReplayPlayer.play(new ReplayReader(ByteBuffer.wrap(data)), ReplayPlayer.BIT_BOARD);
+            for (GameResult result : new GameResult[]{fromStream, fromBuffer}) {
+                assertEquals(seed, result.getSeed());
+                assertEquals(engine.getScore().getScore(), result.getScore(), "score of seed " + seed);
+                assertEquals(engine.getLinesCleared(), result.getLinesCleared(), "lines of seed " + seed);
+                assertEquals(engine.getBricksPlaced(), result.getBricksPlaced(), "bricks of seed " + seed);
+                assertEquals(engine.isGameOver(), result.isGameOver(), "game over of seed " + seed);
+            }
+        }
+    }
+
+    //gravity and inputs interleaved the way the game loop does it, with a restart part way through
+    private static GameEngine record(ByteArrayOutputStream out, ReplayHeader header, MovePolicy policy) throws IOException {
+        GameEngine engine = new GameEngine(new SimpleBoard(header.getBoardConfig(), header.createGenerator()));
+        try (ReplayWriter writer = new ReplayWriter(out, header)) {
+            engine.setRecorder(writer);
+            for (int tick = 0; tick < 6000 && !engine.isGameOver(); tick++) {
+                if (tick == 500) {
+                    engine.newGame();
+                }
+                if (tick % 3 == 0) {
+                    engine.handle(new MoveEvent(policy.nextMove(engine.getBoard()), EventSource.USER));
+                }
+                engine.handleTick();
+            }
+        }
+        return engine;
+    }
+
+    @Test
+    void headerSurvivesAnEmptyReplay() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BoardConfig config = new BoardConfig(40, 17, 5, 0, 13);
+        new ReplayWriter(bytes, new ReplayHeader(-7, BrickGeneratorMode.BAG, config)).close();
+
+        ReplayReader reader = new ReplayReader(ByteBuffer.wrap(bytes.toByteArray()));
+        assertEquals(-7L, reader.getHeader().getSeed());
+        assertEquals(BrickGeneratorMode.BAG, reader.getHeader().getGeneratorMode());
+        assertEquals(40, reader.getHeader().getRows());
+        assertEquals(17, reader.getHeader().getColumns());
+        assertEquals(config, reader.getHeader().getBoardConfig());
+        assertTrue(reader.next());
+        assertTrue(reader.isEnd());
+    }
+
+    @Test
+    void truncatedReplayFailsWithEof() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        record(bytes, new ReplayHeader(5, BrickGeneratorMode.UNIFORM, 25, 10), board -> EventType.LEFT);
+        byte[] data = bytes.toByteArray();
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+
+        assertThrows(EOFException.class, () -> ReplayPlayer.play(new ReplayReader(ByteBuffer.wrap(truncated)), ReplayPlayer.BIT_BOARD));
+        assertThrows(EOFException.class, () -> ReplayPlayer.play(new ReplayReader(new ByteArrayInputStream(truncated)), ReplayPlayer.SIMPLE_BOARD));
+    }
+}
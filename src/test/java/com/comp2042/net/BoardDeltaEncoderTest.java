@@ -0,0 +1,119 @@
+package com.comp2042.net;
+
+import com.comp2042.Board;
+import com.comp2042.ClearRow;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.GameEngine;
+import com.comp2042.logic.GameListener;
+import com.comp2042.logic.bricks.BrickGeneratorMode;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardDeltaEncoderTest {
+
+    private static final EventType[] INPUTS = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE,
+            EventType.DOWN, EventType.DOWN, EventType.HARD_DROP};
+
+    @Test
+    void deltasRebuildTheBoardForEarlyAndLateReceivers() throws IOException {
+        for (int[] size : new int[][]{{25, 10}, {40, 17}}) {
+            int rows = size[0];
+            int columns = size[1];
+            BoardDeltaEncoder encoder = new BoardDeltaEncoder(rows, columns, 50);
+            GameEngine engine = new GameEngine(new SimpleBoard(rows, columns, BrickGeneratorMode.BAG.create(11, 1)));
+            engine.setListener(new RowToucher(encoder));
+            ByteBuffer frame = ByteBuffer.allocate(BoardDeltaEncoder.maxSize(rows, columns));
+            RemoteBoard early = new RemoteBoard(rows, columns);
+            RemoteBoard late = new RemoteBoard(rows, columns);
+            SplitMix64 random = new SplitMix64(11);
+            for (int step = 0; step < 4000; step++) {
+                engine.handle(new MoveEvent(INPUTS[random.nextInt(INPUTS.length)], EventSource.USER));
+                if (engine.isGameOver() && random.nextInt(4) == 0) {
+                    engine.newGame();
+                }
+
+                frame.clear();
+                encoder.encode(frame, engine.getBoard(), engine.isGameOver());
+                early.apply(frame.flip());
+                assertMirrors(engine, early, "early receiver at step " + step);
+                if (step == 1000) {
+                    //joins the way a new peer does: a keyframe right after the regular frame
+                    frame.clear();
+                    encoder.encodeKeyframe(frame, engine.getBoard(), engine.isGameOver());
+                    late.apply(frame.flip());
+                } else if (step > 1000) {
+                    late.apply(frame.rewind());
+                }
+                if (step >= 1000) {
+                    assertMirrors(engine, late, "late receiver at step " + step);
+                }
+            }
+        }
+    }
+
+    @Test
+    void deltaBeforeTheFirstKeyframeIsRejected() {
+        Board board = new SimpleBoard(25, 10, BrickGeneratorMode.UNIFORM.create(1, 1));
+        board.newGame();
+        BoardDeltaEncoder encoder = new BoardDeltaEncoder(25, 10);
+        ByteBuffer frame = ByteBuffer.allocate(BoardDeltaEncoder.maxSize(25, 10));
+        encoder.encode(frame, board, false);
+        frame.clear();
+        board.moveBrickLeft();
+        encoder.encode(frame, board, false);
+
+        RemoteBoard remote = new RemoteBoard(25, 10);
+        assertThrows(IOException.class, () -> remote.apply(frame.flip()));
+    }
+
+    private static void assertMirrors(GameEngine engine, RemoteBoard remote, String where) {
+        Board board = engine.getBoard();
+        assertArrayEquals(board.getBoardMatrix(), remote.getBoardMatrix(), where);
+        assertEquals(board.getBrickX(), remote.getBrickX(), where);
+        assertEquals(board.getBrickY(), remote.getBrickY(), where);
+        assertEquals(board.getBrickY() + board.getDropDistance(), remote.getGhostY(), where);
+        assertArrayEquals(sent(board.getBrickShape()), remote.getBrick(), where);
+        assertArrayEquals(sent(board.getNextBrick().getShapes().get(0)), remote.getNextBrick(), where);
+        assertEquals(board.getScore().getScore(), remote.getScore(), where);
+        assertEquals(board.getScore().getLines(), remote.getLines(), where);
+        assertEquals(engine.isGameOver(), remote.isGameOver(), where);
+    }
+
+    //a shape as it looks after the trip through the protocol
+    private static int[][] sent(BrickShape shape) {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        Protocol.putShape(buffer, Protocol.packShape(shape));
+        int[][] matrix = Protocol.newShapeMatrix();
+        Protocol.getShape(buffer.flip(), matrix);
+        return matrix;
+    }
+
+    private static final class RowToucher implements GameListener {
+
+        private final BoardDeltaEncoder encoder;
+
+        private RowToucher(BoardDeltaEncoder encoder) {
+            this.encoder = encoder;
+        }
+
+        @Override
+        public void onBackgroundChanged(int[][] boardMatrix, int fromRow, int toRow) {
+            encoder.touchRows(fromRow, toRow);
+        }
+
+        @Override
+        public void onRowsCleared(ClearRow clearRow) {
+        }
+    }
+}